@@ -0,0 +1,34 @@
+package com.example.BlogApp.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * <p>
+ * Pass {@code nextCursor} back as the {@code cursor} request parameter to fetch the
+ * following page; it is null once the last page has been returned.
+ * </p>
+ *
+ * @param <T> the type of the listed items
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One page of a cursor-paginated listing")
+public class CursorPage<T> {
+    @Schema(description = "Items on this page")
+    private List<T> items;
+    @Schema(description = "Cursor for the next page, or null when there are no more items")
+    private String nextCursor;
+    @Schema(description = "Whether more items follow this page")
+    private boolean hasMore;
+}
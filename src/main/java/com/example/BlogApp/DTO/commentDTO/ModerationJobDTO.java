@@ -0,0 +1,38 @@
+package com.example.BlogApp.DTO.commentDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Progress of a bulk comment moderation job")
+public class ModerationJobDTO {
+    private UUID id;
+    private UUID authorId;
+    private Action action;
+    private Instant from;
+    private Instant to;
+    private Status status;
+    private long processed;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+
+    public enum Action {
+        DELETE,
+        HIDE
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
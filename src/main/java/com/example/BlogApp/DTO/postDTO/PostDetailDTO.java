@@ -0,0 +1,21 @@
+package com.example.BlogApp.DTO.postDTO;
+
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Everything needed to render a post page")
+public class PostDetailDTO {
+    private PostDTO post;
+    @Schema(description = "Number of visible comments on the post")
+    private long commentCount;
+    @Schema(description = "The oldest visible comments, up to the requested page size")
+    private List<CommentDTO> comments;
+}
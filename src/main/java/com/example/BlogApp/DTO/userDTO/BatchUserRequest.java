@@ -0,0 +1,22 @@
+package com.example.BlogApp.DTO.userDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Request object for looking up several users in one call")
+public class BatchUserRequest {
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = 100, message = "At most 100 user ids can be requested at once")
+    private List<@NotNull(message = "User id cannot be null") UUID> ids;
+}
@@ -0,0 +1,24 @@
+package com.example.BlogApp.DTO.userDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Activity counters shown on a user's profile")
+public class UserStatsDTO {
+    private UUID userId;
+    @Schema(description = "Number of posts written, published or not")
+    private long postCount;
+    @Schema(description = "Number of published posts")
+    private long publishedCount;
+    @Schema(description = "Number of comments written")
+    private long commentCount;
+    @Schema(description = "Total views across all of the user's posts")
+    private long totalViews;
+}
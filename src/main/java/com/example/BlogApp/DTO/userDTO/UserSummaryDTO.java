@@ -0,0 +1,24 @@
+package com.example.BlogApp.DTO.userDTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Public view of a User
+ * <p>
+ * Returned by lookups any authenticated user may call, such as @mention autocomplete,
+ * so it carries only what is already shown next to posts and comments: no email.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Public view of a User: id and username only.")
+public class UserSummaryDTO {
+    private UUID id;
+    private String username;
+}
@@ -0,0 +1,26 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'comments.batching' prefix
+ * (comments.batching.enabled, comments.batching.maxBatchSize, comments.batching.maxWait).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comments.batching")
+public class CommentBatchingProperties {
+
+    private boolean enabled = false;
+    private int maxBatchSize = 200;
+    private Duration maxWait = Duration.ofMillis(5);
+    private int queueCapacity = 10_000;
+    private Duration submitTimeout = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,25 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'comments.purge' prefix
+ * (comments.purge.batchSize, comments.purge.pauseBetweenBatches, comments.purge.resumeInterval).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comments.purge")
+public class CommentPurgeProperties {
+
+    private int batchSize = 1000;
+    private Duration pauseBetweenBatches = Duration.ofMillis(20);
+    /** How often tombstones of failed purges are queued again; 0 retries only at startup. */
+    private Duration resumeInterval = Duration.ofMinutes(10);
+
+}
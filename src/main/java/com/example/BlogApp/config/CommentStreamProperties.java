@@ -0,0 +1,37 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'comments.stream' prefix
+ * (comments.stream.bufferSize, comments.stream.overflowPolicy, comments.stream.timeout,
+ * comments.stream.heartbeatInterval).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comments.stream")
+public class CommentStreamProperties {
+
+    private int bufferSize = 64;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /**
+     * What to do when a subscriber's buffer is full because it is not keeping up.
+     */
+    public enum OverflowPolicy {
+        /** Discard the oldest buffered comment to make room for the new one. */
+        DROP_OLDEST,
+        /** Discard the new comment and keep what is already buffered. */
+        DROP_NEWEST,
+        /** Disconnect the subscriber; the client is expected to reconnect and refetch. */
+        CLOSE
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'reads.composite' prefix
+ * (reads.composite.parallel, reads.composite.timeout).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reads.composite")
+public class CompositeReadProperties {
+
+    /** Run independent lookups on virtual threads; when false they run one after another on the caller. */
+    private boolean parallel = true;
+    /** Upper bound on a whole composite read; unfinished lookups are cancelled when it expires. */
+    private Duration timeout = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,24 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'content-filter' prefix
+ * (content-filter.enabled, content-filter.wordList, content-filter.reloadInterval).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "content-filter")
+public class ContentFilterProperties {
+
+    private boolean enabled = true;
+    private String wordList = "classpath:content-filter/banned-words.txt";
+    private Duration reloadInterval = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,37 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'comments.duplicate-detection' prefix
+ * (comments.duplicate-detection.enabled, comments.duplicate-detection.window,
+ * comments.duplicate-detection.maxDistance, ...).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comments.duplicate-detection")
+public class DuplicateDetectionProperties {
+
+    private boolean enabled = true;
+    private Duration window = Duration.ofMinutes(10);
+    /** Maximum Hamming distance between fingerprints to count as a near-duplicate (at most 7). */
+    private int maxDistance = 7;
+    private int perAuthorCapacity = 32;
+    private int maxTrackedAuthors = 50_000;
+    private int globalCapacity = 100_000;
+    private int globalBucketCapacity = 64;
+    /** How many recent near-duplicates from anyone before a comment is rejected globally. */
+    private int globalThreshold = 3;
+    /**
+     * Comments shorter than this once normalized ("Thanks!", "Great post", emoji) skip both the
+     * per-author and the global check: their fingerprints collide too easily.
+     */
+    private int minLength = 40;
+
+}
@@ -0,0 +1,25 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'comments.moderation' prefix
+ * (comments.moderation.batchSize, comments.moderation.pauseBetweenBatches,
+ * comments.moderation.jobRetention).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comments.moderation")
+public class ModerationProperties {
+
+    private int batchSize = 500;
+    private Duration pauseBetweenBatches = Duration.ofMillis(20);
+    private Duration jobRetention = Duration.ofHours(24);
+
+}
@@ -0,0 +1,156 @@
+package com.example.BlogApp.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records what MongoDB commands return and how many each HTTP request issues.
+ * <p>
+ * {@code mongodb.commands.reply.size} records the bytes returned, tagged by command and
+ * collection. Latency is left to Boot's {@code mongodb.driver.commands} timer, which carries
+ * the same command, collection and status tags. Commands issued
+ * while serving an HTTP request are also counted against that request, and
+ * {@link MongoCommandRouteFilter} records the counts under the request's route as
+ * {@code mongodb.commands.per.request}, which shows how many {@code find}s a page costs.
+ * </p>
+ */
+@Component
+public class MongoCommandMetrics implements CommandListener {
+
+    /** Request attribute holding the {@link RequestTally} of the current request. */
+    static final String TALLY_ATTRIBUTE = MongoCommandMetrics.class.getName() + ".TALLY";
+    private static final String NO_COLLECTION = "none";
+
+    private final MongoCommandMetricsProperties properties;
+    private final MeterRegistry meterRegistry;
+    // Collection of each command in flight, keyed by the driver's request id
+    private final Map<Integer, String> inFlight = new ConcurrentHashMap<>();
+
+    public MongoCommandMetrics(MongoCommandMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        inFlight.put(event.getRequestId(), collection(event.getCommandName(), event.getCommand()));
+        RequestTally tally = currentTally();
+        if (tally != null) {
+            tally.increment(event.getCommandName());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = completed(event.getRequestId());
+        DistributionSummary.builder("mongodb.commands.reply.size")
+                .tag("command", event.getCommandName())
+                .tag("collection", collection)
+                .baseUnit("bytes")
+                .description("Size of MongoDB command replies")
+                .register(meterRegistry)
+                .record(sizeInBytes(event.getResponse()));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId());
+    }
+
+    /**
+     * Record the commands one request issued, once it has completed.
+     *
+     * @param method the HTTP method
+     * @param uri    the matched route pattern, e.g. {@code /api/posts/{postId}}
+     */
+    void recordRequest(String method, String uri, RequestTally tally) {
+        tally.counts.forEach((command, count) -> DistributionSummary.builder("mongodb.commands.per.request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("command", command)
+                .description("MongoDB commands issued per HTTP request")
+                .register(meterRegistry)
+                .record(count.sum()));
+    }
+
+    private String completed(int requestId) {
+        String collection = inFlight.remove(requestId);
+        return collection != null ? collection : NO_COLLECTION;
+    }
+
+    private static RequestTally currentTally() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                ? (RequestTally) attributes.getAttribute(TALLY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
+
+    /**
+     * The collection a command targets: the value of the command name field for
+     * find, aggregate, insert and the like, or the 'collection' field of a getMore.
+     */
+    static String collection(String commandName, BsonDocument command) {
+        BsonValue target = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : NO_COLLECTION;
+    }
+
+    /**
+     * Encoded size of a reply. Replies from the wire carry their size in the first four
+     * bytes; anything else is encoded to find out.
+     */
+    static int sizeInBytes(BsonDocument document) {
+        if (document instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = document.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binary) {
+                return binary.getBsonInput().readInt32();
+            }
+        }
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.getPosition();
+    }
+
+    /**
+     * Commands issued by one HTTP request, by command name. Thread-safe, since a request
+     * can run lookups in parallel.
+     */
+    static final class RequestTally {
+
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        void increment(String command) {
+            counts.computeIfAbsent(command, name -> new LongAdder()).increment();
+        }
+
+        long count(String command) {
+            LongAdder count = counts.get(command);
+            return count != null ? count.sum() : 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds properties under the 'mongo.metrics' prefix
+ * (mongo.metrics.enabled).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mongo.metrics")
+public class MongoCommandMetricsProperties {
+
+    /** Record reply sizes and commands per request; read when the MongoDB client is created. */
+    private boolean enabled = true;
+
+}
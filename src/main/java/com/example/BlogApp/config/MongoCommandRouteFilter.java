@@ -0,0 +1,52 @@
+package com.example.BlogApp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Attributes the MongoDB commands of each HTTP request to its route.
+ * <p>
+ * Runs ahead of the security filters, so the user lookup of token authentication is
+ * counted too. The route is the matched handler pattern, known only once the request
+ * has been dispatched, so the counts are recorded when it completes.
+ * </p>
+ */
+@Component
+@AllArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MongoCommandRouteFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private MongoCommandMetrics commandMetrics;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !commandMetrics.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        MongoCommandMetrics.RequestTally tally = new MongoCommandMetrics.RequestTally();
+        request.setAttribute(MongoCommandMetrics.TALLY_ATTRIBUTE, tally);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            commandMetrics.recordRequest(request.getMethod(), route != null ? route.toString() : UNKNOWN_ROUTE, tally);
+        }
+    }
+}
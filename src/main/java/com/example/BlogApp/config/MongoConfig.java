@@ -1,13 +1,21 @@
 package com.example.BlogApp.config;
 
+import com.example.BlogApp.repo.codec.EntityCodecs;
+import com.mongodb.MongoClientSettings;
 import org.bson.UuidRepresentation;
 import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Configuration for MongoDB behavior: UUID representation and auditing.
+ * Configuration for MongoDB behavior: UUID representation, entity codecs, connection pool,
+ * command metrics, the slow query log and auditing.
  * Index creation is handled by a dedicated runtime component to avoid
  * constructor injection cycles during auto-configuration.
  */
@@ -15,8 +23,30 @@ import org.springframework.data.mongodb.config.EnableMongoAuditing;
 @EnableMongoAuditing
 public class MongoConfig {
 
+    static final Duration VIRTUAL_THREADS_MAX_WAIT_TIME = Duration.ofSeconds(2);
+
     @Bean
-    public MongoClientSettingsBuilderCustomizer customizer() {
-        return builder -> builder.uuidRepresentation(UuidRepresentation.STANDARD);
+    public MongoClientSettingsBuilderCustomizer customizer(MongoPoolProperties pool, MongoCommandMetrics commandMetrics,
+                                                           SlowQueryRecorder slowQueryRecorder, Environment environment) {
+        Duration maxWaitTime = pool.getMaxWaitTime() != null ? pool.getMaxWaitTime()
+                : Threading.VIRTUAL.isActive(environment) ? VIRTUAL_THREADS_MAX_WAIT_TIME : null;
+        // Entity codecs serve collections read directly through the driver; Spring Data's
+        // converter still handles repository and template operations
+        return builder -> {
+            builder.uuidRepresentation(UuidRepresentation.STANDARD)
+                    .codecRegistry(EntityCodecs.withFallback(MongoClientSettings.getDefaultCodecRegistry()))
+                    .applyToConnectionPoolSettings(settings -> {
+                        settings.maxSize(pool.getMaxSize());
+                        if (maxWaitTime != null) {
+                            settings.maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+                        }
+                    });
+            if (commandMetrics.isEnabled()) {
+                builder.addCommandListener(commandMetrics);
+            }
+            if (slowQueryRecorder.isEnabled()) {
+                builder.addCommandListener(slowQueryRecorder);
+            }
+        };
     }
 }
@@ -0,0 +1,82 @@
+package com.example.BlogApp.config;
+
+import com.example.BlogApp.repo.UserRepo;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Every index the application relies on, per collection.
+ * <p>
+ * {@link MongoIndexesCreator} applies this catalog at startup and reports drift against
+ * what the database actually holds. Each index is named the way MongoDB would name it
+ * by default, so entries line up with indexes created before the catalog existed.
+ * The query plan tests check every repository query against these definitions.
+ * </p>
+ */
+public final class MongoIndexCatalog {
+
+    private static final Collation CASE_INSENSITIVE = Collation.parse(UserRepo.CASE_INSENSITIVE);
+
+    private static final Map<String, List<Index>> INDEXES;
+
+    static {
+        Map<String, List<Index>> indexes = new LinkedHashMap<>();
+        indexes.put("users", named(
+                // Case-insensitive uniqueness; lookups must use the same collation
+                new Index().on("username", Sort.Direction.ASC).unique().collation(CASE_INSENSITIVE),
+                new Index().on("email", Sort.Direction.ASC).unique().collation(CASE_INSENSITIVE),
+                // Partial: only accounts awaiting cleanup are indexed, so it stays tiny
+                new Index().on("deleted", Sort.Direction.ASC)
+                        .partial(PartialIndexFilter.of(Criteria.where("deleted").is(true)))));
+        indexes.put("posts", named(
+                // Serves findByAuthorId through its prefix and findByAuthorIdAndPublishedTrue in full
+                new Index().on("authorId", Sort.Direction.ASC).on("published", Sort.Direction.ASC),
+                // The public feed, newest first. Partial, so drafts never enter it
+                new Index().on("createdAt", Sort.Direction.DESC)
+                        .partial(PartialIndexFilter.of(Criteria.where("published").is(true))),
+                new Index().on("tags", Sort.Direction.ASC),
+                new Index().on("title", Sort.Direction.ASC)));
+        indexes.put("comments", named(
+                // Serves the comments of a post by its prefix, and in createdAt order for the post detail page
+                new Index().on("postId", Sort.Direction.ASC).on("createdAt", Sort.Direction.ASC),
+                // Moderation selects an author's comments in createdAt order
+                new Index().on("authorId", Sort.Direction.ASC).on("createdAt", Sort.Direction.ASC)));
+        INDEXES = Collections.unmodifiableMap(indexes);
+    }
+
+    private MongoIndexCatalog() {
+    }
+
+    /**
+     * @return the declared indexes keyed by collection name, in declaration order
+     */
+    public static Map<String, List<Index>> indexes() {
+        return INDEXES;
+    }
+
+    /**
+     * The name MongoDB gives an index by default, e.g. {@code authorId_1_createdAt_-1}.
+     */
+    public static String defaultName(Document keys) {
+        return keys.entrySet().stream()
+                .map(key -> key.getKey() + "_" + key.getValue())
+                .collect(Collectors.joining("_"));
+    }
+
+    private static List<Index> named(Index... indexes) {
+        return Arrays.stream(indexes)
+                .map(index -> index.named(defaultName(index.getIndexKeys())))
+                .toList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds properties under the 'mongo.indexes' prefix
+ * (mongo.indexes.dropUnknown).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mongo.indexes")
+public class MongoIndexProperties {
+
+    /** Drop indexes that are not in {@link MongoIndexCatalog}; when false they are only reported. */
+    private boolean dropUnknown = false;
+
+}
@@ -1,52 +1,257 @@
 package com.example.BlogApp.config;
 
 import lombok.NonNull;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 /**
- * Creates required MongoDB indexes at application startup using MongoTemplate.
+ * Applies {@link MongoIndexCatalog} at application startup using MongoTemplate.
  * Implemented as an ApplicationRunner to avoid constructor-time auto-config cycles.
+ * <p>
+ * Each run is idempotent: missing indexes are created, indexes whose keys or options have
+ * drifted from the catalog are rebuilt without ever dropping a constraint first, and indexes
+ * the catalog does not know about are reported (or dropped when {@code mongo.indexes.drop-unknown}
+ * is set).
+ * </p>
  */
 @Component
 public class MongoIndexesCreator implements ApplicationRunner {
 
+    static final String BRIDGE_SUFFIX = "_rebuild";
+
     private static final Logger log = LoggerFactory.getLogger(MongoIndexesCreator.class);
     private final MongoTemplate mongoTemplate;
+    private final MongoIndexProperties properties;
 
-    public MongoIndexesCreator(MongoTemplate mongoTemplate) {
+    public MongoIndexesCreator(MongoTemplate mongoTemplate, MongoIndexProperties properties) {
         this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
     }
 
     @Override
     public void run(@NonNull ApplicationArguments args) {
+        MongoIndexCatalog.indexes().forEach(this::ensureIndexes);
+    }
+
+    private void ensureIndexes(String collection, List<Index> declared) {
         try {
-            // Ensure unique index on username and email in users collection
-            IndexOperations usersIndexOps = mongoTemplate.indexOps("users");
-            usersIndexOps.createIndex(new Index().on("username", Sort.Direction.ASC).unique());
-            usersIndexOps.createIndex(new Index().on("email", Sort.Direction.ASC).unique());
-            log.info("Ensured indexes for 'users' collection (username, email)");
-
-            // Ensure index for posts collection (e.g., title, author)
-            IndexOperations postsIndexOps = mongoTemplate.indexOps("posts");
-            postsIndexOps.createIndex(new Index().on("authorId", Sort.Direction.ASC));
-            postsIndexOps.createIndex(new Index().on("title", Sort.Direction.ASC));
-            log.info("Ensured basic indexes for 'posts' collection (authorId, title)");
-
-            // Ensure index for comments collection (postId)
-            IndexOperations commentsIndexOps = mongoTemplate.indexOps("comments");
-            commentsIndexOps.createIndex(new Index().on("postId", Sort.Direction.ASC));
-            log.info("Ensured index for 'comments' collection (postId)");
+            Map<String, Document> existing = new LinkedHashMap<>();
+            mongoTemplate.getCollection(collection).listIndexes()
+                    .forEach(index -> existing.put(index.getString("name"), index));
+            existing.remove("_id_");
+            apply(collection, declared, existing, mongoTemplate.indexOps(collection));
+        } catch (Exception e) {
+            log.warn("Failed to ensure MongoDB indexes for '{}' collection at startup: {}", collection, e.getMessage());
+        }
+    }
+
+    /**
+     * Bring one collection's indexes in line with the catalog, given its current {@code listIndexes}
+     * entries keyed by name.
+     */
+    void apply(String collection, List<Index> declared, Map<String, Document> existing, IndexOperations indexOps) {
+        int created = 0;
+        int rebuilt = 0;
+        List<Index> inPlace = new ArrayList<>();
+        for (Index index : declared) {
+            String name = index.getIndexOptions().getString("name");
+            Document current = existing.remove(name);
+            // Left behind by a rebuild that stopped after dropping the old index
+            boolean bridgeLeft = existing.remove(name + BRIDGE_SUFFIX) != null;
+            try {
+                if (current == null) {
+                    indexOps.createIndex(index);
+                    created++;
+                } else {
+                    List<String> drift = drift(index, current);
+                    if (!drift.isEmpty()) {
+                        log.warn("Index '{}' on '{}' differs from the catalog in {}; rebuilding it", name, collection, drift);
+                        if (!rebuild(collection, index, current, indexOps)) {
+                            continue;
+                        }
+                        rebuilt++;
+                    }
+                }
+                inPlace.add(index);
+                if (bridgeLeft) {
+                    indexOps.dropIndex(name + BRIDGE_SUFFIX);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to ensure index '{}' on '{}': {}", name, collection, e.getMessage());
+            }
+        }
 
+        for (Map.Entry<String, Document> entry : existing.entrySet()) {
+            String unknown = entry.getKey();
+            Document index = entry.getValue();
+            if (properties.isDropUnknown() && isUnique(index) && !enforcedByCatalog(inPlace, index)) {
+                log.warn("Index '{}' on '{}' is not in the catalog but enforces a unique constraint the catalog does not; keeping it",
+                        unknown, collection);
+            } else if (properties.isDropUnknown()) {
+                try {
+                    indexOps.dropIndex(unknown);
+                    log.info("Dropped index '{}' on '{}', which is not in the catalog", unknown, collection);
+                } catch (Exception e) {
+                    log.warn("Failed to drop index '{}' on '{}': {}", unknown, collection, e.getMessage());
+                }
+            } else {
+                log.warn("Index '{}' on '{}' is not in the catalog; set mongo.indexes.drop-unknown=true to drop it", unknown, collection);
+            }
+        }
+        log.info("Ensured {} indexes for '{}' collection ({} created, {} rebuilt)", declared.size(), collection, created, rebuilt);
+    }
+
+    /**
+     * Replace a drifted index without a window in which its constraint is missing.
+     * <p>
+     * A bridge index with the catalog definition is built first, under a temporary name and
+     * with a partial filter every document matches, so the server accepts it next to both the
+     * old and the new index. If the data violates the new definition (say, case-only duplicate
+     * usernames under a new collation), building the bridge fails and the old index is left
+     * untouched. Otherwise the old index is dropped, the catalog index created under its own
+     * name, and the bridge dropped; a unique bridge enforces the constraint in between.
+     * </p>
+     *
+     * @return false if the old index was kept because the new one cannot be built
+     */
+    private boolean rebuild(String collection, Index index, Document current, IndexOperations indexOps) {
+        String name = index.getIndexOptions().getString("name");
+        IndexDefinition bridge = bridge(index);
+        if (bridge == null) {
+            if (isUnique(index.getIndexOptions()) || isUnique(current)) {
+                log.error("Index '{}' on '{}' cannot be rebuilt without dropping its unique constraint; keeping the old definition",
+                        name, collection);
+                return false;
+            }
+            indexOps.dropIndex(name);
+            indexOps.createIndex(index);
+            return true;
+        }
+        try {
+            indexOps.createIndex(bridge);
         } catch (Exception e) {
-            log.warn("Failed to ensure MongoDB indexes at startup: {}", e.getMessage());
+            log.error("Index '{}' on '{}' cannot be built as declared, keeping the old definition: {}", name, collection, e.getMessage());
+            return false;
+        }
+        indexOps.dropIndex(name);
+        indexOps.createIndex(index);
+        indexOps.dropIndex(name + BRIDGE_SUFFIX);
+        return true;
+    }
+
+    /**
+     * The catalog index under a temporary name, with {@code _id: {$exists: true}} added to its
+     * partial filter. Every document has an {@code _id}, so the bridge covers exactly what the
+     * catalog index does, yet counts as a different index to the server. Null for sparse indexes,
+     * which cannot also be partial.
+     */
+    static IndexDefinition bridge(Index index) {
+        Document options = new Document(index.getIndexOptions());
+        Document filter = options.get("partialFilterExpression", Document.class);
+        if (options.getBoolean("sparse", false) || (filter != null && filter.containsKey("_id"))) {
+            return null;
+        }
+        Document bridgeFilter = filter != null ? new Document(filter) : new Document();
+        bridgeFilter.append("_id", new Document("$exists", true));
+        options.put("partialFilterExpression", bridgeFilter);
+        options.put("name", options.getString("name") + BRIDGE_SUFFIX);
+        Document keys = index.getIndexKeys();
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return keys;
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+
+    /**
+     * Whether a catalog index already in place guarantees at least what the given unique index
+     * does: unique on the same keys, over no fewer documents, and comparing values either the
+     * same way or, when the given index uses plain binary comparison, under any collation.
+     */
+    private static boolean enforcedByCatalog(List<Index> inPlace, Document index) {
+        Document collation = index.get("collation", Document.class);
+        Object filter = index.get("partialFilterExpression");
+        return inPlace.stream().anyMatch(candidate -> {
+            Document options = candidate.getIndexOptions();
+            return isUnique(options)
+                    && sameKeys(candidate.getIndexKeys(), index.get("key", Document.class))
+                    && (options.get("partialFilterExpression") == null || Objects.equals(options.get("partialFilterExpression"), filter))
+                    && (collation == null || sameCollation(options.get("collation", Document.class), collation));
+        });
+    }
+
+    private static boolean isUnique(Document options) {
+        return options.getBoolean("unique", false);
+    }
+
+    /**
+     * Compare a declared index with the {@code listIndexes} entry of the same name.
+     *
+     * @return the names of the properties that differ; empty if the index matches the catalog
+     */
+    static List<String> drift(Index declared, Document existing) {
+        List<String> differences = new ArrayList<>();
+        if (!sameKeys(declared.getIndexKeys(), existing.get("key", Document.class))) {
+            differences.add("key");
+        }
+        Document options = declared.getIndexOptions();
+        for (String flag : List.of("unique", "sparse")) {
+            if (options.getBoolean(flag, false) != existing.getBoolean(flag, false)) {
+                differences.add(flag);
+            }
+        }
+        if (!Objects.equals(options.get("partialFilterExpression"), existing.get("partialFilterExpression"))) {
+            differences.add("partialFilterExpression");
+        }
+        if (!sameCollation(options.get("collation", Document.class), existing.get("collation", Document.class))) {
+            differences.add("collation");
+        }
+        return differences;
+    }
+
+    private static boolean sameKeys(Document declared, Document existing) {
+        if (existing == null || declared.size() != existing.size()) {
+            return false;
+        }
+        // Key order matters for compound indexes, and the shell may store directions as doubles
+        List<String> declaredFields = List.copyOf(declared.keySet());
+        List<String> existingFields = List.copyOf(existing.keySet());
+        if (!declaredFields.equals(existingFields)) {
+            return false;
+        }
+        return declaredFields.stream().allMatch(field -> {
+            Object want = declared.get(field);
+            Object have = existing.get(field);
+            return want instanceof Number w && have instanceof Number h ? w.intValue() == h.intValue() : Objects.equals(want, have);
+        });
+    }
+
+    private static boolean sameCollation(Document declared, Document existing) {
+        if (declared == null || existing == null) {
+            return declared == existing;
         }
+        // The server reports every collation field, so only compare the ones the catalog sets
+        return declared.entrySet().stream()
+                .allMatch(option -> Objects.equals(option.getValue(), existing.get(option.getKey())));
     }
 }
@@ -0,0 +1,28 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'mongo.pool' prefix
+ * (mongo.pool.maxSize, mongo.pool.maxWaitTime).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mongo.pool")
+public class MongoPoolProperties {
+
+    /** Connections per server; with virtual threads this, not the request thread pool, caps concurrent queries. */
+    private int maxSize = 100;
+    /**
+     * How long a request may wait for a free connection before failing. When unset, 2s with
+     * virtual threads enabled (many more requests queue on the pool), otherwise the driver default.
+     */
+    private Duration maxWaitTime;
+
+}
@@ -0,0 +1,27 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'diagnostics.pinning' prefix
+ * (diagnostics.pinning.enabled, diagnostics.pinning.threshold, diagnostics.pinning.stackDepth).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "diagnostics.pinning")
+public class PinningDiagnosticsProperties {
+
+    /** Stream JFR pinning events while the application runs. */
+    private boolean enabled = false;
+    /** Only pinning that holds a carrier thread at least this long is reported. */
+    private Duration threshold = Duration.ofMillis(20);
+    /** Number of stack frames included in the log line for each event. */
+    private int stackDepth = 8;
+
+}
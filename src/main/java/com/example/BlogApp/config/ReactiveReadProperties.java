@@ -0,0 +1,23 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds properties under the 'reactive.reads' prefix
+ * (reactive.reads.max-stream-size, reactive.reads.prefetch).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reactive.reads")
+public class ReactiveReadProperties {
+
+    /** Most posts a single feed stream may emit, whatever page size the client asks for. */
+    private int maxStreamSize = 1000;
+    /** Posts requested from MongoDB ahead of the client, and hydrated with one author lookup per batch. */
+    private int prefetch = 64;
+
+}
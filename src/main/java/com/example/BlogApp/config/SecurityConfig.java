@@ -3,7 +3,9 @@ package com.example.BlogApp.config;
 import com.example.BlogApp.security.JwtAuthenticationEntryPoint;
 import com.example.BlogApp.security.JwtFilter;
 import com.example.BlogApp.security.MyUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
@@ -38,6 +40,7 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
  * </p>
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @EnableMethodSecurity
 @AllArgsConstructor
@@ -55,6 +58,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .httpBasic(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches of SSE streams were already authorized on the initial request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/register",
                                 "/api/auth/login",
@@ -63,6 +68,7 @@ public class SecurityConfig {
                                 "/v3/api-docs",          // OpenAPI JSON (default path)
                                 "/v3/api-docs/**"       // OpenAPI sub-paths (e.g. /v3/api-docs/swagger-config)
                         ).permitAll()
+                        .requestMatchers("/actuator/slowqueries", "/actuator/slowqueries/**").hasAuthority("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(exception -> exception
@@ -90,19 +96,21 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public CorsConfigurationSource corsConfigurationSource() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration());
+        return source;
     }
 
-    @Bean
-    public CorsConfigurationSource corsConfigurationSource() {
+    /**
+     * CORS rules shared with {@link ReactiveSecurityConfig}.
+     */
+    static CorsConfiguration corsConfiguration() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOriginPatterns(List.of("http://localhost:[*]", "http://127.0.0.1:[*]"));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept"));
         configuration.setAllowCredentials(true);
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", configuration);
-        return source;
+        return configuration;
     }
 }
\ No newline at end of file
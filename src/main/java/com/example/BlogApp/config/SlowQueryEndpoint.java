@@ -0,0 +1,77 @@
+package com.example.BlogApp.config;
+
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/slowqueries}: the command shapes in the slow query log that cost the most
+ * in total, with how often they ran and what their plans examined.
+ */
+@Component
+@AllArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private MongoTemplate mongoTemplate;
+    private SlowQueryProperties properties;
+
+    @ReadOperation
+    public List<Offender> topOffenders(@Nullable Integer limit) {
+        // Capped at the configured top, so a caller cannot ask for the whole log
+        int top = Math.max(properties.getTop(), 1);
+        int count = limit != null ? Math.clamp(limit, 1, top) : top;
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("command", "collection", "shape")
+                        .count().as("count")
+                        .sum("durationMillis").as("totalMillis")
+                        .max("durationMillis").as("maxMillis")
+                        .avg("docsExamined").as("avgDocsExamined")
+                        .avg("docsReturned").as("avgDocsReturned")
+                        // Natural order of a capped collection is insertion order
+                        .last("planSummary").as("planSummary")
+                        .max("at").as("lastSeen"),
+                Aggregation.sort(Sort.Direction.DESC, "totalMillis"),
+                Aggregation.limit(count));
+
+        return mongoTemplate.aggregate(aggregation, SlowQueryRecorder.COLLECTION, Document.class)
+                .getMappedResults().stream()
+                .map(SlowQueryEndpoint::toOffender)
+                .toList();
+    }
+
+    private static Offender toOffender(Document group) {
+        Document id = group.get("_id", Document.class);
+        Date lastSeen = group.getDate("lastSeen");
+        return new Offender(
+                id.getString("command"),
+                id.getString("collection"),
+                id.get("shape", Document.class),
+                group.get("count", Number.class).longValue(),
+                group.get("totalMillis", Number.class).doubleValue(),
+                group.get("maxMillis", Number.class).doubleValue(),
+                group.get("avgDocsExamined", Number.class),
+                group.get("avgDocsReturned", Number.class),
+                group.getString("planSummary"),
+                lastSeen != null ? lastSeen.toInstant() : null);
+    }
+
+    /**
+     * One command shape and what it has cost since the oldest entry still in the log.
+     */
+    public record Offender(String command, String collection, Map<String, Object> shape, long count,
+                           double totalMillis, double maxMillis, Number avgDocsExamined, Number avgDocsReturned,
+                           String planSummary, Instant lastSeen) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'mongo.slow-queries' prefix
+ * (mongo.slow-queries.enabled, mongo.slow-queries.threshold, mongo.slow-queries.explain,
+ * mongo.slow-queries.max-size, mongo.slow-queries.max-documents, mongo.slow-queries.queue-capacity,
+ * mongo.slow-queries.top, mongo.slow-queries.sample-rate).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mongo.slow-queries")
+public class SlowQueryProperties {
+
+    /** Log slow commands; read when the MongoDB client is created. */
+    private boolean enabled = true;
+    /** Commands taking at least this long are logged. */
+    private Duration threshold = Duration.ofMillis(100);
+    /** Explain each logged command with executionStats, for documents examined and the plan used. */
+    private boolean explain = true;
+    /** Size of the capped slow_queries collection; the oldest entries are overwritten once full. */
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+    /** Entry limit of the capped slow_queries collection. */
+    private long maxDocuments = 10_000;
+    /** Slow commands waiting to be explained and written; further ones are dropped while it is full. */
+    private int queueCapacity = 100;
+    /** Offenders listed by the slowqueries actuator endpoint when no limit is given, and the most it lists. */
+    private int top = 20;
+    /**
+     * Fraction of commands whose body is copied when sent, so that a slow one can be shaped and
+     * explained; the others are logged by command and collection only.
+     */
+    private double sampleRate = 0.1;
+
+}
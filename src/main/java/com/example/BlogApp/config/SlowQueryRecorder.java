@@ -0,0 +1,334 @@
+package com.example.BlogApp.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Logs MongoDB commands slower than {@code mongo.slow-queries.threshold} to the capped
+ * {@value #COLLECTION} collection, each with an {@code explain} of the same command.
+ * <p>
+ * Only the shape of a command is stored: field names and operators are kept, literal values
+ * are replaced with {@code "?"}, so entries are free of user data and group naturally by
+ * query shape. Documents returned come from the reply; documents and keys examined and the
+ * winning plan come from explaining the command with executionStats on a background thread,
+ * off the request path. When more slow commands arrive than the background thread keeps up
+ * with, the excess is dropped rather than queued without bound.
+ * </p>
+ * <p>
+ * Whether a command is slow is only known once it completes, but the driver reuses the
+ * command's buffer as soon as it is sent. Copying every command would cost each fast one too,
+ * so only {@code mongo.slow-queries.sample-rate} of them are copied; a slow command outside
+ * the sample is logged with its command and collection but without shape or explain.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SlowQueryRecorder implements CommandListener {
+
+    static final String COLLECTION = "slow_queries";
+    static final String REDACTED = "?";
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct", "update", "delete", "findAndModify");
+    // Session and transport fields the driver adds; explain rejects most of them on the inner command
+    private static final Set<String> DRIVER_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction", "readConcern", "writeConcern");
+    // Values under these keys name fields, indexes or collections rather than carry data
+    private static final Set<String> IDENTIFIER_KEYS = Set.of("sort", "$sort", "hint", "projection", "from", "localField", "foreignField", "as");
+
+    private final SlowQueryProperties properties;
+    private final Supplier<MongoTemplate> mongoTemplate;
+    private final Executor executor;
+    // Commands in flight that may need logging, keyed by the driver's request id
+    private final Map<Integer, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SlowQueryRecorder(SlowQueryProperties properties, ObjectProvider<MongoTemplate> mongoTemplate) {
+        // The template is looked up lazily: it depends on the client this listener is registered with
+        this(properties, mongoTemplate::getObject, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().daemon().name("slow-query-log").factory()));
+    }
+
+    SlowQueryRecorder(SlowQueryProperties properties, Supplier<MongoTemplate> mongoTemplate, Executor executor) {
+        this.properties = properties;
+        this.mongoTemplate = mongoTemplate;
+        this.executor = executor;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void createCollection() {
+        if (properties.isEnabled()) {
+            submit(this::ensureCappedCollection);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!EXPLAINABLE.contains(event.getCommandName())) {
+            return;
+        }
+        String collection = collection(event.getCommandName(), event.getCommand());
+        if (!COLLECTION.equals(collection)) {
+            // Copied now, as the driver reuses the command's buffer once it has been sent
+            BsonDocument command = ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()
+                    ? event.getCommand().clone()
+                    : null;
+            inFlight.put(event.getRequestId(), new InFlight(collection, command));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        InFlight started = inFlight.remove(event.getRequestId());
+        Duration elapsed = Duration.ofNanos(event.getElapsedTime(TimeUnit.NANOSECONDS));
+        if (started == null || elapsed.compareTo(properties.getThreshold()) < 0) {
+            return;
+        }
+        Long docsReturned = docsReturned(event.getResponse());
+        String database = event.getDatabaseName();
+        submit(() -> record(database, event.getCommandName(), started, elapsed, docsReturned));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        inFlight.remove(event.getRequestId());
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Slow query log is falling behind; dropping an entry");
+        }
+    }
+
+    private void record(String database, String commandName, InFlight started, Duration elapsed, Long docsReturned) {
+        BsonDocument explainable = started.command() != null ? withoutDriverFields(started.command()) : null;
+        Document entry = new Document("at", Instant.now())
+                .append("database", database)
+                .append("command", commandName)
+                .append("collection", started.collection())
+                .append("shape", explainable != null ? toDocument(shape(explainable)) : null)
+                .append("durationMillis", elapsed.toNanos() / 1e6)
+                .append("docsReturned", docsReturned);
+        if (explainable != null && properties.isExplain()) {
+            try {
+                Document explain = mongoTemplate.get().getMongoDatabaseFactory().getMongoDatabase(database)
+                        .runCommand(new Document("explain", explainable).append("verbosity", "executionStats"));
+                Document stats = executionStats(explain);
+                entry.append("docsExamined", stats != null ? stats.get("totalDocsExamined") : null)
+                        .append("keysExamined", stats != null ? stats.get("totalKeysExamined") : null)
+                        .append("planSummary", planSummary(winningPlan(explain)));
+            } catch (Exception e) {
+                entry.append("explainError", e.getMessage());
+            }
+        }
+        try {
+            mongoTemplate.get().insert(entry, COLLECTION);
+        } catch (Exception e) {
+            log.warn("Failed to log slow {} on '{}': {}", commandName, entry.getString("collection"), e.getMessage());
+        }
+    }
+
+    private void ensureCappedCollection() {
+        try {
+            MongoTemplate template = mongoTemplate.get();
+            if (!template.collectionExists(COLLECTION)) {
+                template.createCollection(COLLECTION, CollectionOptions.empty()
+                        .capped()
+                        .size(properties.getMaxSize().toBytes())
+                        .maxDocuments(properties.getMaxDocuments()));
+                log.info("Created capped '{}' collection ({}, {} entries)", COLLECTION, properties.getMaxSize(), properties.getMaxDocuments());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to create the '{}' collection at startup: {}", COLLECTION, e.getMessage());
+        }
+    }
+
+    /**
+     * The collection a command targets: the value of the command name field.
+     */
+    static String collection(String commandName, BsonDocument command) {
+        BsonValue target = command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : null;
+    }
+
+    /**
+     * The command with field names and operators kept and every literal value replaced by
+     * {@value #REDACTED}. Arrays keep one element per distinct shape, so {@code $in} lists
+     * of any length give the same shape.
+     */
+    static BsonDocument shape(BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        boolean first = true;
+        for (Map.Entry<String, BsonValue> field : command.entrySet()) {
+            // The first field names the command and holds the collection
+            shape.put(field.getKey(), first ? field.getValue() : redact(field.getKey(), field.getValue()));
+            first = false;
+        }
+        return shape;
+    }
+
+    private static BsonValue redact(String key, BsonValue value) {
+        if (IDENTIFIER_KEYS.contains(key)) {
+            return value;
+        }
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            value.asDocument().forEach((name, nested) -> redacted.put(name, redact(name, nested)));
+            return redacted;
+        }
+        if (value.isArray()) {
+            BsonArray redacted = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                BsonValue shape = redact(key, element);
+                if (!redacted.contains(shape)) {
+                    redacted.add(shape);
+                }
+            }
+            return redacted;
+        }
+        return new BsonString(REDACTED);
+    }
+
+    private static BsonDocument withoutDriverFields(BsonDocument command) {
+        BsonDocument stripped = new BsonDocument();
+        command.forEach((name, value) -> {
+            if (!name.startsWith("$") && !DRIVER_FIELDS.contains(name)) {
+                stripped.put(name, value);
+            }
+        });
+        return stripped;
+    }
+
+    /**
+     * Documents a reply carries: the first cursor batch, the {@code n} of a count or write,
+     * the values of a distinct, or the document of a findAndModify.
+     */
+    static Long docsReturned(BsonDocument reply) {
+        BsonDocument cursor = reply.isDocument("cursor") ? reply.getDocument("cursor") : null;
+        if (cursor != null && cursor.isArray("firstBatch")) {
+            return (long) cursor.getArray("firstBatch").size();
+        }
+        if (reply.isNumber("n")) {
+            return reply.getNumber("n").longValue();
+        }
+        if (reply.isArray("values")) {
+            return (long) reply.getArray("values").size();
+        }
+        if (reply.containsKey("value")) {
+            return reply.get("value").isNull() ? 0L : 1L;
+        }
+        return null;
+    }
+
+    /**
+     * The executionStats of an explain result, which an aggregation reports under its first
+     * stage when the pipeline is not pushed down entirely to the query engine.
+     */
+    static Document executionStats(Document explain) {
+        Document stats = explain.get("executionStats", Document.class);
+        if (stats == null) {
+            Document cursor = firstCursorStage(explain);
+            stats = cursor != null ? cursor.get("executionStats", Document.class) : null;
+        }
+        return stats;
+    }
+
+    private static Document winningPlan(Document explain) {
+        Document planner = explain.get("queryPlanner", Document.class);
+        if (planner == null) {
+            Document cursor = firstCursorStage(explain);
+            planner = cursor != null ? cursor.get("queryPlanner", Document.class) : null;
+        }
+        return planner != null ? planner.get("winningPlan", Document.class) : null;
+    }
+
+    private static Document firstCursorStage(Document explain) {
+        List<?> stages = explain.get("stages", List.class);
+        if (stages != null && !stages.isEmpty() && stages.getFirst() instanceof Document stage) {
+            return stage.get("$cursor", Document.class);
+        }
+        return null;
+    }
+
+    /**
+     * The winning plan as its stages from the root down, with the index each scan uses,
+     * e.g. {@code FETCH > IXSCAN postId_1_createdAt_1}. Stages with several inputs are
+     * followed through the first.
+     */
+    static String planSummary(Document winningPlan) {
+        if (winningPlan == null) {
+            return null;
+        }
+        // Plans from the slot-based engine wrap the classic plan tree in 'queryPlan'
+        Document node = winningPlan.get("queryPlan", Document.class) != null
+                ? winningPlan.get("queryPlan", Document.class)
+                : winningPlan;
+        List<String> stages = new ArrayList<>();
+        while (node != null) {
+            String index = node.getString("indexName");
+            stages.add(index != null ? node.getString("stage") + " " + index : node.getString("stage"));
+            Document input = node.get("inputStage", Document.class);
+            if (input == null && node.get("inputStages") instanceof List<?> inputs
+                    && !inputs.isEmpty() && inputs.getFirst() instanceof Document firstInput) {
+                input = firstInput;
+            }
+            node = input;
+        }
+        return String.join(" > ", stages);
+    }
+
+    private static Document toDocument(BsonDocument document) {
+        return new DocumentCodec().decode(document.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    /**
+     * What is kept of a command while it runs: its collection always, its body only when sampled.
+     */
+    private record InFlight(String collection, BsonDocument command) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'users.cache' prefix
+ * (users.cache.enabled, users.cache.maxSize, users.cache.ttl).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.cache")
+public class UserCacheProperties {
+
+    private boolean enabled = true;
+    private int maxSize = 10_000;
+    /** Upper bound on staleness for writes that bypass UserService. */
+    private Duration ttl = Duration.ofMinutes(10);
+
+}
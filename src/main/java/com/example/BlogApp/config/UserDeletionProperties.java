@@ -0,0 +1,25 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds properties under the 'users.deletion' prefix
+ * (users.deletion.batchSize, users.deletion.pauseBetweenBatches, users.deletion.resumeInterval).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.deletion")
+public class UserDeletionProperties {
+
+    private int batchSize = 500;
+    private Duration pauseBetweenBatches = Duration.ofMillis(20);
+    /** How often users still flagged as deleted are queued again; 0 retries only at startup. */
+    private Duration resumeInterval = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,22 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds properties under the 'users.search' prefix
+ * (users.search.indexEnabled, users.search.maxResults).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.search")
+public class UserSearchProperties {
+
+    /** Serve prefix searches from memory; when false every search queries the database. */
+    private boolean indexEnabled = true;
+    private int maxResults = 50;
+
+}
@@ -0,0 +1,21 @@
+package com.example.BlogApp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds properties under the 'users.stats' prefix
+ * (users.stats.repairBatchSize, users.stats.repairParallelism).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.stats")
+public class UserStatsProperties {
+
+    private int repairBatchSize = 500;
+    private int repairParallelism = 4;
+
+}
@@ -0,0 +1,111 @@
+package com.example.BlogApp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that pin their carrier thread, from an in-process JFR stream.
+ * <p>
+ * A pinned virtual thread blocks its carrier for the whole wait, so under load a few
+ * pinning call sites can exhaust the carrier pool. Each {@code jdk.VirtualThreadPinned}
+ * event above the threshold increments {@code jvm.threads.virtual.pinned}, tagged with
+ * the first application frame of the stack, and is logged with its top frames.
+ * </p>
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> PLATFORM_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final PinningDiagnosticsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer pinnedTime;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(PinningDiagnosticsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pinnedTime = Timer.builder("jvm.threads.virtual.pinned.time")
+                .description("Time virtual threads held their carrier thread while pinned")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!properties.isEnabled() || stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::record);
+            recording.startAsync();
+            stream = recording;
+            log.info("Reporting virtual thread pinning longer than {}", properties.getThreshold());
+        } catch (Exception e) {
+            log.warn("Virtual thread pinning diagnostics unavailable: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> frames = frames(event.getStackTrace());
+        String site = pinnedAt(frames);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .tag("site", site)
+                .description("Virtual threads that pinned their carrier thread")
+                .register(meterRegistry)
+                .increment();
+        pinnedTime.record(event.getDuration());
+        log.warn("Virtual thread pinned its carrier for {} ms at {}:{}", event.getDuration().toMillis(), site,
+                frames.stream()
+                        .limit(properties.getStackDepth())
+                        .collect(Collectors.joining("\n\tat ", "\n\tat ", "")));
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .toList();
+    }
+
+    /**
+     * The call site to blame for a pinning event: the first frame outside the JDK, or the
+     * top frame if the whole stack is JDK code.
+     *
+     * @param frames method names, innermost first
+     */
+    static String pinnedAt(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> PLATFORM_PACKAGES.stream().noneMatch(frame::startsWith))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.getFirst());
+    }
+}
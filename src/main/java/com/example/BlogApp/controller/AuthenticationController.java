@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Log4j2
 @AllArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "Operations related to authentication")
 public class AuthenticationController {
@@ -49,9 +51,9 @@ public class AuthenticationController {
             @Valid @RequestBody RegisterRequest registerRequest) {
         User savedUser = authenticationService.saveUser(registerRequest);
 
-        // Generate JWT token for the newly registered user
+        // Generate JWT token straight from the inserted user, without reading it back
         JwtAuthenticationResponse jwtResponse = JwtAuthenticationResponse.builder()
-                .accessToken(authenticationService.generateTokenForUser(savedUser.getUsername()))
+                .accessToken(authenticationService.generateTokenForUser(savedUser))
                 .username(savedUser.getUsername())
                 .tokenType("Bearer")
                 .build();
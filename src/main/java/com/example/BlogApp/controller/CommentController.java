@@ -3,25 +3,34 @@ package com.example.BlogApp.controller;
 import com.example.BlogApp.DTO.AuthResponse;
 import com.example.BlogApp.DTO.commentDTO.CommentDTO;
 import com.example.BlogApp.DTO.commentDTO.CreateCommentRequest;
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO;
+import com.example.BlogApp.service.CommentModerationService;
 import com.example.BlogApp.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @AllArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api")
 @Tag(name = "Comments", description = "Operations related to comments on blog posts")
 public class CommentController {
     private CommentService commentService;
+    private CommentModerationService commentModerationService;
 
     @PostMapping("/posts/{postId}/comments")
     @Operation(summary = "Add a comment to a post", description = "Adds a new comment to the specified post.")
@@ -55,6 +64,12 @@ public class CommentController {
             return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream new comments for a post", description = "Opens a Server-Sent Events stream that pushes comments added to the specified post.")
+    public SseEmitter streamComments(@PathVariable UUID postId) {
+        return commentService.streamComments(postId);
+    }
+
     @PutMapping("/comments/{commentId}")
     @PreAuthorize("@securityService.isCommentAuthor(#commentId)")
     @Operation(summary = "Update a comment", description = "Updates the content of an existing comment. Only the author of the comment can perform this action.")
@@ -85,4 +100,35 @@ public class CommentController {
                 .build();
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    @PostMapping("/comments/moderation/authors/{authorId}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Moderate all comments by an author", description = "Starts a background job that deletes or hides every comment by the author, optionally within a createdAt range. Accessible only by admins.")
+    public ResponseEntity<AuthResponse<ModerationJobDTO>> moderateAuthorComments(
+            @PathVariable UUID authorId,
+            @RequestParam(defaultValue = "HIDE") ModerationJobDTO.Action action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        ModerationJobDTO job = commentModerationService.moderateAuthor(authorId, action, from, to);
+
+        AuthResponse<ModerationJobDTO> response = AuthResponse.<ModerationJobDTO>builder()
+                .data(job)
+                .success(true)
+                .message("Moderation job started")
+                .build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/comments/moderation/{jobId}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Get moderation job progress", description = "Retrieves the status and progress of a bulk comment moderation job. Accessible only by admins.")
+    public ResponseEntity<AuthResponse<ModerationJobDTO>> getModerationJob(@PathVariable UUID jobId) {
+        AuthResponse<ModerationJobDTO> response = AuthResponse.<ModerationJobDTO>builder()
+                .data(commentModerationService.getJob(jobId))
+                .success(true)
+                .message("Moderation job retrieved successfully")
+                .build();
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
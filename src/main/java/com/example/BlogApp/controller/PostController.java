@@ -3,12 +3,14 @@ package com.example.BlogApp.controller;
 import com.example.BlogApp.DTO.AuthResponse;
 import com.example.BlogApp.DTO.postDTO.CreatePostRequest;
 import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.postDTO.PostDetailDTO;
 import com.example.BlogApp.DTO.postDTO.UpdatePostRequest;
 import com.example.BlogApp.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,13 +23,14 @@ import java.util.UUID;
 
 @AllArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/posts")
 @Tag(name = "Posts", description = "Endpoints for managing blog posts")
 public class PostController {
     private PostService postService;
 
     @GetMapping
-    @Operation(summary = "Get all posts with pagination", description = "Retrieve a paginated list of all blog posts")
+    @Operation(summary = "Get all posts with pagination", description = "Retrieve a paginated list of published blog posts, newest first")
     public ResponseEntity<AuthResponse<Page<PostDTO>>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
@@ -57,6 +60,22 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping("/{postId}/full")
+    @PreAuthorize("@securityService.canViewUnpublishedPost(#postId)")
+    @Operation(summary = "Get post page", description = "Retrieve a post with its author, comment count and first page of comments in a single database round trip")
+    public ResponseEntity<AuthResponse<PostDetailDTO>> getPostDetail(
+            @PathVariable UUID postId,
+            @RequestParam(defaultValue = "20") int comments) {
+        PostDetailDTO detail = postService.getPostDetail(postId, comments);
+
+        AuthResponse<PostDetailDTO> response = AuthResponse.<PostDetailDTO>builder()
+                .data(detail)
+                .success(true)
+                .message("Post retrieved successfully")
+                .build();
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @PostMapping
     @Operation(summary = "Create a new post", description = "Create a new blog post with the provided details")
     public ResponseEntity<AuthResponse<PostDTO>> createPost(@Valid @RequestBody CreatePostRequest request) {
@@ -0,0 +1,41 @@
+package com.example.BlogApp.controller;
+
+import com.example.BlogApp.DTO.AuthResponse;
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
+import com.example.BlogApp.service.ReactiveReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read endpoints of {@link CommentController} on the reactive stack.
+ */
+@AllArgsConstructor
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api")
+@Tag(name = "Comments", description = "Operations related to comments on blog posts")
+public class ReactiveCommentController {
+    private ReactiveReadService readService;
+
+    @GetMapping("/posts/{postId}/comments")
+    @Operation(summary = "Get comments for a post", description = "Retrieves all comments associated with the specified post.")
+    public Mono<ResponseEntity<AuthResponse<List<CommentDTO>>>> getCommentsByPost(@PathVariable UUID postId) {
+        return readService.getCommentsByPost(postId).map(comments -> {
+            AuthResponse<List<CommentDTO>> response = AuthResponse.<List<CommentDTO>>builder()
+                    .data(comments)
+                    .success(true)
+                    .message("Comments retrieved successfully")
+                    .build();
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        });
+    }
+}
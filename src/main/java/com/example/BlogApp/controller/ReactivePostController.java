@@ -0,0 +1,86 @@
+package com.example.BlogApp.controller;
+
+import com.example.BlogApp.DTO.AuthResponse;
+import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.service.ReactiveReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read endpoints of {@link PostController} on the reactive stack. Pages are serialized as
+ * {@link PagedModel}, the same shape the servlet stack produces.
+ */
+@AllArgsConstructor
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/posts")
+@Tag(name = "Posts", description = "Endpoints for managing blog posts")
+public class ReactivePostController {
+    private ReactiveReadService readService;
+
+    @GetMapping
+    @Operation(summary = "Get all posts with pagination", description = "Retrieve a paginated list of published blog posts, newest first")
+    public Mono<ResponseEntity<AuthResponse<PagedModel<PostDTO>>>> getAllPosts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+        return readService.getAllPosts(pageable).map(posts -> {
+            AuthResponse<PagedModel<PostDTO>> response = AuthResponse.<PagedModel<PostDTO>>builder()
+                    .data(new PagedModel<>(posts))
+                    .success(true)
+                    .message("Posts retrieved successfully")
+                    .build();
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        });
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream the feed", description = "Stream published blog posts, newest first, as newline-delimited JSON at the pace the client reads them")
+    public Flux<PostDTO> streamFeed(@RequestParam(defaultValue = "100") int limit) {
+        return readService.streamFeed(limit);
+    }
+
+    @GetMapping("/{postId}")
+    @Operation(summary = "Get post by ID", description = "Retrieve a single blog post by its unique identifier")
+    public Mono<ResponseEntity<AuthResponse<PostDTO>>> getPostById(@PathVariable UUID postId) {
+        return readService.getPostById(postId).map(post -> {
+            AuthResponse<PostDTO> response = AuthResponse.<PostDTO>builder()
+                    .data(post)
+                    .success(true)
+                    .message("Post retrieved successfully")
+                    .build();
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        });
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search posts by keyword", description = "Search for blog posts that contain the specified keyword in the title or content")
+    public Mono<ResponseEntity<AuthResponse<PagedModel<PostDTO>>>> searchPosts(
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        return readService.searchPosts(keyword, pageable).map(posts -> {
+            AuthResponse<PagedModel<PostDTO>> response = AuthResponse.<PagedModel<PostDTO>>builder()
+                    .data(new PagedModel<>(posts))
+                    .success(true)
+                    .message("Posts searched successfully")
+                    .build();
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        });
+    }
+}
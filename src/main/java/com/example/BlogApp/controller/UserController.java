@@ -1,36 +1,86 @@
 package com.example.BlogApp.controller;
 
 import com.example.BlogApp.DTO.AuthResponse;
+import com.example.BlogApp.DTO.CursorPage;
+import com.example.BlogApp.DTO.userDTO.BatchUserRequest;
 import com.example.BlogApp.DTO.userDTO.UpdateUserRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.DTO.userDTO.UserStatsDTO;
+import com.example.BlogApp.DTO.userDTO.UserSummaryDTO;
 import com.example.BlogApp.service.UserService;
+import com.example.BlogApp.service.UserStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
 @AllArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/users")
 @Tag(name = "User Management", description = "Endpoints for managing users")
 public class UserController {
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     UserService userService;
+    UserStatsService userStatsService;
+    JsonMapper jsonMapper;
 
     @GetMapping
     @PreAuthorize("hasAuthority('ADMIN')")
-    @Operation(summary = "Get All Users", description = "Retrieve a list of all users. Accessible only by admins.")
-    public ResponseEntity<AuthResponse<List<UserDTO>>> getAllUsers() {
-        AuthResponse<List<UserDTO>> response = AuthResponse.<List<UserDTO>>builder()
+    @Operation(summary = "Get All Users", description = "Retrieve users one page at a time, ordered by id. Pass the returned nextCursor to get the following page. Accessible only by admins.")
+    public ResponseEntity<AuthResponse<CursorPage<UserDTO>>> getAllUsers(
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        AuthResponse<CursorPage<UserDTO>> response = AuthResponse.<CursorPage<UserDTO>>builder()
                 .success(true)
                 .message("Users retrieved successfully")
-                .data(userService.getAllUsers())
+                .data(userService.getAllUsers(cursor, limit))
+                .build();
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Export All Users", description = "Stream every user as newline-delimited JSON. Accessible only by admins.")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = outputStream -> userService.exportUsers(user -> {
+            try {
+                outputStream.write(jsonMapper.writeValueAsBytes(user));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search Users by Username Prefix", description = "Retrieve the id and username of users whose username starts with the prefix, ignoring case, in username order.")
+    public ResponseEntity<AuthResponse<List<UserSummaryDTO>>> searchUsers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        AuthResponse<List<UserSummaryDTO>> response = AuthResponse.<List<UserSummaryDTO>>builder()
+                .success(true)
+                .message("Users retrieved successfully")
+                .data(userService.searchByUsernamePrefix(prefix, limit))
                 .build();
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -46,6 +96,41 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping("/{userId}/stats")
+    @Operation(summary = "Get User Stats", description = "Retrieve a user's post, published post, comment and view counts.")
+    public ResponseEntity<AuthResponse<UserStatsDTO>> getUserStats(@PathVariable UUID userId) {
+        AuthResponse<UserStatsDTO> response = AuthResponse.<UserStatsDTO>builder()
+                .success(true)
+                .message("User stats retrieved successfully")
+                .data(userStatsService.getStats(userId))
+                .build();
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping("/stats/repair")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Repair User Stats", description = "Recompute every user's stats from their posts and comments in the background. Accessible only by admins.")
+    public ResponseEntity<AuthResponse<Void>> repairUserStats() {
+        boolean started = userStatsService.repair();
+        AuthResponse<Void> response = AuthResponse.<Void>builder()
+                .success(true)
+                .message(started ? "User stats repair started" : "User stats repair already running")
+                .data(null)
+                .build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get Users by IDs", description = "Retrieve the id and username of up to 100 users in one call, in request order. Unknown ids are skipped.")
+    public ResponseEntity<AuthResponse<List<UserSummaryDTO>>> getUsersBatch(@Valid @RequestBody BatchUserRequest request) {
+        AuthResponse<List<UserSummaryDTO>> response = AuthResponse.<List<UserSummaryDTO>>builder()
+                .success(true)
+                .message("Users retrieved successfully")
+                .data(userService.getUsersBatch(request.getIds()))
+                .build();
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @GetMapping("/username/{username}")
     @PreAuthorize("hasAuthority('ADMIN') or #username == authentication.principal.user.username")
     @Operation(summary = "Get User by Username", description = "Retrieve user details by username. Accessible by admins or the user themselves.")
@@ -0,0 +1,7 @@
+package com.example.BlogApp.exception;
+
+public class ContentRejectedException extends RuntimeException {
+    public ContentRejectedException(String message) {
+        super(message);
+    }
+}
@@ -13,15 +13,25 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Pattern DUPLICATE_KEY_FIELD = Pattern.compile("index: (\\w+?)_-?1\\b");
 
     @ExceptionHandler(DuplicateKeyException.class)
     public ResponseEntity<AuthResponse<Map<String, Object>>> handleDuplicateKeyException(DuplicateKeyException ex) {
-        return buildErrorResponse(HttpStatus.CONFLICT, "Duplicate Key Error", "Username or email already exists", ex.getMessage());
+        String field = duplicateKeyField(ex.getMessage());
+        if (field == null) {
+            return buildErrorResponse(HttpStatus.CONFLICT, "Duplicate Key Error", "Username or email already exists", ex.getMessage());
+        }
+        ResponseEntity<AuthResponse<Map<String, Object>>> response = buildErrorResponse(HttpStatus.CONFLICT, "Duplicate Key Error",
+                Character.toUpperCase(field.charAt(0)) + field.substring(1) + " already exists", ex.getMessage());
+        response.getBody().getData().put("field", field);
+        return response;
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -61,11 +71,28 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Authentication Failed", ex.getMessage(), null);
     }
 
+    @ExceptionHandler(ContentRejectedException.class)
+    public ResponseEntity<AuthResponse<Map<String, Object>>> handleContentRejectedException(ContentRejectedException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Content Rejected", ex.getMessage(), null);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<AuthResponse<Map<String, Object>>> handleIllegalArgumentException(IllegalArgumentException ex) {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), null);
     }
 
+    /**
+     * Extract the offending field from a MongoDB E11000 message, e.g.
+     * "... index: username_1 dup key: { username: "bob" }" yields "username".
+     */
+    private static String duplicateKeyField(String message) {
+        if (message == null) {
+            return null;
+        }
+        Matcher matcher = DUPLICATE_KEY_FIELD.matcher(message);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
     private ResponseEntity<AuthResponse<Map<String, Object>>> buildErrorResponse(HttpStatus status, String errorType, String message, String details) {
         Map<String, Object> errorDetails = new HashMap<>();
         errorDetails.put("timestamp", Instant.now());
@@ -1,6 +1,7 @@
 package com.example.BlogApp.model;
 
 import com.example.BlogApp.utils.UUIDGenerator.Identifiable;
+import com.example.BlogApp.utils.UUIDGenerator.TimeOrderedId;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
@@ -11,6 +12,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
 import java.time.Instant;
 import java.util.UUID;
 
+@TimeOrderedId
 @Document(collection = "comments")
 @Data
 @Builder
@@ -27,6 +29,9 @@ public class Comment implements Identifiable {
     @Field("postId")
     private UUID postId;
 
+    // Set by moderation; hidden comments are kept but no longer listed
+    private boolean hidden;
+
     @CreatedDate
     private Instant createdAt;
 
@@ -1,6 +1,7 @@
 package com.example.BlogApp.model;
 
 import com.example.BlogApp.utils.UUIDGenerator.Identifiable;
+import com.example.BlogApp.utils.UUIDGenerator.TimeOrderedId;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
@@ -12,6 +13,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+@TimeOrderedId
 @Document(collection = "posts")
 @Data
 @Builder
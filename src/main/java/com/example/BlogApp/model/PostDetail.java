@@ -0,0 +1,24 @@
+package com.example.BlogApp.model;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A post with its author and first page of visible comments, as assembled by
+ * {@link com.example.BlogApp.repo.PostRepoCustom#findDetail}. Not stored.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetail {
+    private Post post;
+    // Null if the author document no longer exists
+    private User author;
+    private long commentCount;
+    private List<Comment> comments;
+    private Map<UUID, User> commentAuthors;
+}
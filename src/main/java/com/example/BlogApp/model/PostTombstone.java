@@ -0,0 +1,24 @@
+package com.example.BlogApp.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Marks a deleted post whose comments have not been purged yet. Written before the post is
+ * deleted and removed once its comments are gone, so a purge interrupted by a restart or an
+ * error is picked up again.
+ */
+@Document(collection = "post_tombstones")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTombstone {
+    @Id
+    private UUID postId;
+    private Instant deletedAt;
+}
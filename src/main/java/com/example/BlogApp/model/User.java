@@ -1,6 +1,7 @@
 package com.example.BlogApp.model;
 
 import com.example.BlogApp.utils.UUIDGenerator.Identifiable;
+import com.example.BlogApp.utils.UUIDGenerator.TimeOrderedId;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
@@ -11,6 +12,7 @@ import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
 
+@TimeOrderedId
 @Document(collection = "users")
 @Data
 @Builder
@@ -24,6 +26,10 @@ public class User implements Identifiable {
     private String password;
     private Set<String> roles;
 
+    // Set when the account is deleted; the document itself is removed once its posts and comments are gone
+    private boolean deleted;
+    private Instant deletedAt;
+
     @CreatedDate
     private Instant createdAt;
 
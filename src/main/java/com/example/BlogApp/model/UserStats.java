@@ -0,0 +1,27 @@
+package com.example.BlogApp.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Denormalized per-user counters, kept current with {@code $inc} on every write that
+ * affects them and rebuilt from scratch by the stats repair job.
+ */
+@Document(collection = "user_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStats {
+    @Id
+    private UUID userId;
+    private long postCount;
+    private long publishedCount;
+    private long commentCount;
+    private long totalViews;
+    private Instant updatedAt;
+}
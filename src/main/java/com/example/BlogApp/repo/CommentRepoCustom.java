@@ -0,0 +1,43 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Comment;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch operations on comments that derived queries cannot express.
+ */
+public interface CommentRepoCustom {
+
+    /**
+     * Select the next batch of comment ids written by an author, optionally within a time range.
+     *
+     * @param authorId      the author whose comments to select
+     * @param from          inclusive lower bound on createdAt, or null
+     * @param to            exclusive upper bound on createdAt, or null
+     * @param visibleOnly   whether to skip comments that are already hidden
+     * @param limit         maximum number of ids to return
+     * @return up to {@code limit} comment ids
+     */
+    List<UUID> findIdsByAuthor(UUID authorId, Instant from, Instant to, boolean visibleOnly, int limit);
+
+    /**
+     * Select the next batch of comments on any of the given posts, with only
+     * {@code id} and {@code authorId} populated.
+     *
+     * @param postIds the posts whose comments to select
+     * @param limit   maximum number of comments to return
+     * @return up to {@code limit} comment references
+     */
+    List<Comment> findAuthorRefsByPostIds(Collection<UUID> postIds, int limit);
+
+    /**
+     * Mark the given comments as hidden with a single updateMany.
+     *
+     * @return the number of comments modified
+     */
+    long hideByIdIn(Collection<UUID> ids);
+}
@@ -0,0 +1,59 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Comment;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@AllArgsConstructor
+public class CommentRepoCustomImpl implements CommentRepoCustom {
+
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public List<UUID> findIdsByAuthor(UUID authorId, Instant from, Instant to, boolean visibleOnly, int limit) {
+        Criteria criteria = Criteria.where("authorId").is(authorId);
+        if (from != null || to != null) {
+            Criteria createdAt = Criteria.where("createdAt");
+            if (from != null) {
+                createdAt.gte(from);
+            }
+            if (to != null) {
+                createdAt.lt(to);
+            }
+            criteria.andOperator(createdAt);
+        }
+        if (visibleOnly) {
+            criteria.and("hidden").ne(true);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+                .limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Comment.class).stream()
+                .map(Comment::getId)
+                .toList();
+    }
+
+    @Override
+    public List<Comment> findAuthorRefsByPostIds(Collection<UUID> postIds, int limit) {
+        Query query = new Query(Criteria.where("postId").in(postIds)).limit(limit);
+        query.fields().include("_id", "authorId");
+        return mongoTemplate.find(query, Comment.class);
+    }
+
+    @Override
+    public long hideByIdIn(Collection<UUID> ids) {
+        Query query = new Query(Criteria.where("_id").in(ids));
+        return mongoTemplate.updateMulti(query, new Update().set("hidden", true), Comment.class)
+                .getModifiedCount();
+    }
+}
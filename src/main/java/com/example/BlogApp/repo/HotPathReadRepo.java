@@ -0,0 +1,66 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.repo.codec.EntityCodecs;
+import com.mongodb.client.MongoCollection;
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.ne;
+import static com.mongodb.client.model.Sorts.descending;
+
+/**
+ * Reads for the list endpoints, decoded by the hand-written entity codecs straight from
+ * the driver instead of through {@code MappingMongoConverter}. Queries match the derived
+ * queries they replace, so they are served by the same indexes.
+ */
+@Repository
+@AllArgsConstructor
+public class HotPathReadRepo {
+
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * The published feed, newest first; equivalent to
+     * {@link PostRepo#findByPublishedTrueOrderByCreatedAtDesc}.
+     */
+    public Page<Post> findPublishedFeed(Pageable pageable) {
+        MongoCollection<Post> posts = collection(Post.class);
+        Bson filter = eq("published", true);
+        List<Post> content = posts.find(filter)
+                .sort(descending("createdAt"))
+                .skip((int) pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .into(new ArrayList<>(pageable.getPageSize()));
+        return PageableExecutionUtils.getPage(content, pageable, () -> posts.countDocuments(filter));
+    }
+
+    /**
+     * Comments on a post that are not hidden; the blocking counterpart of
+     * {@link ReactiveCommentRepo#findByPostIdAndHiddenNot} with {@code hidden = true}.
+     */
+    public List<Comment> findVisibleByPostId(UUID postId) {
+        return collection(Comment.class)
+                .find(and(eq("postId", postId), ne("hidden", true)))
+                .into(new ArrayList<>());
+    }
+
+    private <T> MongoCollection<T> collection(Class<T> entityClass) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+        return collection.withDocumentClass(entityClass)
+                .withCodecRegistry(EntityCodecs.withFallback(collection.getCodecRegistry()));
+    }
+}
@@ -5,11 +5,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
 import java.util.UUID;
 
-public interface PostRepo extends MongoRepository<Post, UUID> {
-    Page<Post> findByPublishedTrue(Pageable pageable);
+public interface PostRepo extends MongoRepository<Post, UUID>, PostRepoCustom {
+    /**
+     * The public feed, newest first. Served by the partial {@code createdAt} index,
+     * which only holds published posts.
+     */
+    Page<Post> findByPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
     Page<Post> findByAuthorId(UUID authorId, Pageable pageable);
     Page<Post> findByAuthorIdAndPublishedTrue(UUID authorId, Pageable pageable);
     Page<Post> findByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword, Pageable pageable);
+
+    long deleteByIdIn(Collection<UUID> ids);
 }
@@ -0,0 +1,37 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.PostDetail;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Batch operations and aggregations on posts that derived queries cannot express.
+ */
+public interface PostRepoCustom {
+
+    /**
+     * Select the next batch of post ids written by an author.
+     *
+     * @param authorId the author whose posts to select
+     * @param limit    maximum number of ids to return
+     * @return up to {@code limit} post ids
+     */
+    List<UUID> findIdsByAuthor(UUID authorId, int limit);
+
+    /**
+     * Load a post, its author, its visible comment count and the oldest visible comments
+     * with their authors in one aggregation. Password hashes are projected away.
+     *
+     * @param postId       the post to load
+     * @param commentLimit maximum number of comments to return
+     * @return the post detail, or empty if the post does not exist
+     */
+    Optional<PostDetail> findDetail(UUID postId, int commentLimit);
+
+    /**
+     * Increment a post's view count with a single {@code $inc}.
+     */
+    void incrementViews(UUID postId);
+}
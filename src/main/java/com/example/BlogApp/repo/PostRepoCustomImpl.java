@@ -0,0 +1,117 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.PostDetail;
+import com.example.BlogApp.model.User;
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@AllArgsConstructor
+public class PostRepoCustomImpl implements PostRepoCustom {
+
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public List<UUID> findIdsByAuthor(UUID authorId, int limit) {
+        Query query = new Query(Criteria.where("authorId").is(authorId)).limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Post.class).stream()
+                .map(Post::getId)
+                .toList();
+    }
+
+    @Override
+    public Optional<PostDetail> findDetail(UUID postId, int commentLimit) {
+        String users = mongoTemplate.getCollectionName(User.class);
+        // Sorted before $facet so the postId/createdAt index orders the comments; $facet
+        // then counts them and keeps the first page, whose authors are joined last
+        List<Document> commentPipeline = List.of(
+                new Document("$match", new Document("hidden", new Document("$ne", true))),
+                new Document("$sort", new Document("createdAt", 1)),
+                new Document("$facet", new Document()
+                        .append("total", List.of(new Document("$count", "count")))
+                        .append("page", List.of(
+                                new Document("$limit", commentLimit),
+                                lookup(users, "authorId", "_id", List.of(withoutPassword()), "author")))));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("_id").is(postId)),
+                stage(lookup(users, "authorId", "_id", List.of(withoutPassword()), "author")),
+                stage(lookup(mongoTemplate.getCollectionName(Comment.class), "_id", "postId", commentPipeline, "comments")));
+
+        Document result = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Post.class), Document.class)
+                .getUniqueMappedResult();
+        return Optional.ofNullable(result).map(this::toPostDetail);
+    }
+
+    @Override
+    public void incrementViews(UUID postId) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(postId)), new Update().inc("views", 1), Post.class);
+    }
+
+    private PostDetail toPostDetail(Document document) {
+        Document comments = first(document.getList("comments", Document.class));
+        long commentCount = 0;
+        List<Comment> page = new ArrayList<>();
+        Map<UUID, User> commentAuthors = new HashMap<>();
+        if (comments != null) {
+            Document total = first(comments.getList("total", Document.class));
+            commentCount = total != null ? total.get("count", Number.class).longValue() : 0;
+            for (Document commentDocument : comments.getList("page", Document.class)) {
+                Comment comment = mongoTemplate.getConverter().read(Comment.class, commentDocument);
+                page.add(comment);
+                User author = readUser(commentDocument);
+                if (author != null) {
+                    commentAuthors.put(author.getId(), author);
+                }
+            }
+        }
+        return PostDetail.builder()
+                .post(mongoTemplate.getConverter().read(Post.class, document))
+                .author(readUser(document))
+                .commentCount(commentCount)
+                .comments(page)
+                .commentAuthors(commentAuthors)
+                .build();
+    }
+
+    private User readUser(Document document) {
+        Document author = first(document.getList("author", Document.class));
+        return author != null ? mongoTemplate.getConverter().read(User.class, author) : null;
+    }
+
+    private static Document lookup(String from, String localField, String foreignField, List<Document> pipeline, String as) {
+        // Concise correlated $lookup (MongoDB 5.0+): the join uses the foreign field's index
+        return new Document("$lookup", new Document("from", from)
+                .append("localField", localField)
+                .append("foreignField", foreignField)
+                .append("pipeline", pipeline)
+                .append("as", as));
+    }
+
+    private static Document withoutPassword() {
+        return new Document("$project", new Document("password", 0));
+    }
+
+    private static AggregationOperation stage(Document stage) {
+        return context -> stage;
+    }
+
+    private static Document first(List<Document> documents) {
+        return documents == null || documents.isEmpty() ? null : documents.getFirst();
+    }
+}
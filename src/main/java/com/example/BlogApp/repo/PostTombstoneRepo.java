@@ -0,0 +1,14 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.PostTombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PostTombstoneRepo extends MongoRepository<PostTombstone, UUID> {
+    List<PostTombstone> findByDeletedAtBefore(Instant cutoff);
+}
@@ -0,0 +1,14 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Comment;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking mirror of the {@link CommentRepo} reads used by the reactive read path.
+ */
+public interface ReactiveCommentRepo extends ReactiveMongoRepository<Comment, UUID> {
+    Flux<Comment> findByPostIdAndHiddenNot(UUID postId, boolean hidden);
+}
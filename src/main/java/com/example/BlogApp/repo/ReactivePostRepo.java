@@ -0,0 +1,20 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking mirror of the {@link PostRepo} reads used by the reactive read path.
+ * Queries match their blocking counterparts, so they are served by the same indexes.
+ */
+public interface ReactivePostRepo extends ReactiveMongoRepository<Post, UUID> {
+    Flux<Post> findByPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
+    Mono<Long> countByPublishedTrue();
+    Flux<Post> findByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword, Pageable pageable);
+    Mono<Long> countByTitleContainingOrContentContaining(String titleKeyword, String contentKeyword);
+}
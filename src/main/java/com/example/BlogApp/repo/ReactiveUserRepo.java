@@ -0,0 +1,26 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.User;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Non-blocking mirror of the {@link UserRepo} reads used by the reactive read path.
+ */
+public interface ReactiveUserRepo extends ReactiveMongoRepository<User, UUID> {
+
+    @Collation(UserRepo.CASE_INSENSITIVE)
+    Mono<User> findByUsername(String username);
+
+    /**
+     * Users with any of the given ids, fetched with one {@code $in} query, without password hashes.
+     */
+    @Query(value = "{ '_id' : { '$in' : ?0 } }", fields = "{ 'password' : 0 }")
+    Flux<User> findAllByIdIn(Collection<UUID> ids);
+}
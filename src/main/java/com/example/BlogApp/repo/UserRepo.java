@@ -1,15 +1,30 @@
 package com.example.BlogApp.repo;
 
 import com.example.BlogApp.model.User;
+import org.springframework.data.mongodb.core.annotation.Collation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
 
 @Repository
-public interface UserRepo extends MongoRepository<User, UUID> {
+public interface UserRepo extends MongoRepository<User, UUID>, UserRepoCustom {
+
+    /**
+     * Case-insensitive comparison (strength 2 ignores case but not accents). Lookups must use
+     * exactly the collation of the unique username/email indexes for those indexes to serve them.
+     */
+    String CASE_INSENSITIVE = "{ 'locale' : 'en', 'strength' : 2 }";
+
+    @Collation(CASE_INSENSITIVE)
     User findByUsername(String username);
+
+    @Collation(CASE_INSENSITIVE)
     User findByEmail(String email);
+
+    @Collation(CASE_INSENSITIVE)
     boolean existsByUsername(String username);
+
+    @Collation(CASE_INSENSITIVE)
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,58 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.User;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface UserRepoCustom {
+
+    /**
+     * Keyset page of users ordered by id, without password hashes.
+     *
+     * @param after exclusive lower bound on the id, or null for the first page
+     * @param limit maximum number of users to return
+     */
+    List<User> findPageAfter(UUID after, int limit);
+
+    /**
+     * Users with any of the given ids, fetched with one {@code $in} query, without password hashes.
+     */
+    List<User> findAllByIdIn(Collection<UUID> ids);
+
+    /**
+     * Live users whose username starts with the prefix, ignoring case, in username order and
+     * without password hashes. Runs as a range scan on the case-insensitive username index.
+     */
+    List<User> findByUsernamePrefix(String prefix, int limit);
+
+    /**
+     * Atomically {@code $set} the given profile fields with a single findAndModify, leaving
+     * null arguments untouched. Uniqueness of username and email is enforced by the unique
+     * indexes, so a clash surfaces as a {@link org.springframework.dao.DuplicateKeyException}.
+     *
+     * @return the updated user without its password hash, or null if no live user has this id
+     */
+    User updateProfile(UUID userId, String username, String email, String passwordHash, Instant updatedAt);
+
+    /**
+     * Flag the user as deleted so it can no longer sign in, unless it already is.
+     *
+     * @return true if a live user with this id was found and flagged
+     */
+    boolean markDeleted(UUID userId, Instant deletedAt);
+
+    /**
+     * Ids of users flagged as deleted whose cleanup has not finished yet.
+     */
+    List<UUID> findDeletedIds();
+
+    /**
+     * Lazily walk every user over a server-side cursor, without password hashes.
+     * The returned stream must be closed to release the cursor.
+     */
+    Stream<User> streamAll();
+}
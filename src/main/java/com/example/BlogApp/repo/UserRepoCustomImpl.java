@@ -0,0 +1,95 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.User;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@AllArgsConstructor
+public class UserRepoCustomImpl implements UserRepoCustom {
+
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public List<User> findPageAfter(UUID after, int limit) {
+        Query query = after == null ? new Query() : new Query(Criteria.where("_id").gt(after));
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit);
+        query.fields().exclude("password");
+        return mongoTemplate.find(query, User.class);
+    }
+
+    @Override
+    public List<User> findAllByIdIn(Collection<UUID> ids) {
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().exclude("password");
+        return mongoTemplate.find(query, User.class);
+    }
+
+    @Override
+    public List<User> findByUsernamePrefix(String prefix, int limit) {
+        // An anchored regex cannot use a collated index, but the equivalent range can:
+        // U+FFFF sorts after every character under the collation too
+        Criteria criteria = Criteria.where("username").gte(prefix).lt(prefix + Character.MAX_VALUE)
+                .and("deleted").ne(true);
+        Query query = new Query(criteria)
+                .collation(Collation.parse(UserRepo.CASE_INSENSITIVE))
+                .with(Sort.by(Sort.Direction.ASC, "username"))
+                .limit(limit);
+        query.fields().exclude("password");
+        return mongoTemplate.find(query, User.class);
+    }
+
+    @Override
+    public User updateProfile(UUID userId, String username, String email, String passwordHash, Instant updatedAt) {
+        Update update = new Update().set("updatedAt", updatedAt);
+        if (username != null) {
+            update.set("username", username);
+        }
+        if (email != null) {
+            update.set("email", email);
+        }
+        if (passwordHash != null) {
+            update.set("password", passwordHash);
+        }
+        // A deleted user is gone as far as callers are concerned, even before its cleanup finishes
+        Query query = new Query(Criteria.where("_id").is(userId).and("deleted").ne(true));
+        query.fields().exclude("password");
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), User.class);
+    }
+
+    @Override
+    public boolean markDeleted(UUID userId, Instant deletedAt) {
+        Query query = new Query(Criteria.where("_id").is(userId).and("deleted").ne(true));
+        Update update = new Update().set("deleted", true).set("deletedAt", deletedAt);
+        return mongoTemplate.updateFirst(query, update, User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public List<UUID> findDeletedIds() {
+        Query query = new Query(Criteria.where("deleted").is(true));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, User.class).stream()
+                .map(User::getId)
+                .toList();
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().exclude("password");
+        return mongoTemplate.stream(query, User.class);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.UserStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserStatsRepo extends MongoRepository<UserStats, UUID>, UserStatsRepoCustom {
+}
@@ -0,0 +1,29 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.UserStats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Atomic counter updates and bulk recomputation for {@link UserStats}.
+ */
+public interface UserStatsRepoCustom {
+
+    /**
+     * Apply the given deltas with a single upserting {@code $inc}.
+     */
+    void increment(UUID userId, long posts, long published, long comments, long views);
+
+    /**
+     * Recompute the stats of the given users from the posts and comments collections,
+     * with one aggregation per collection. Users with no content get all-zero stats.
+     */
+    List<UserStats> recompute(Collection<UUID> userIds);
+
+    /**
+     * Overwrite (or create) the given stats documents with one unordered bulk write.
+     */
+    void replaceAll(Collection<UserStats> stats);
+}
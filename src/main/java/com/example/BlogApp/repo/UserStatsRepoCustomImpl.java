@@ -0,0 +1,94 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.UserStats;
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@AllArgsConstructor
+public class UserStatsRepoCustomImpl implements UserStatsRepoCustom {
+
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(UUID userId, long posts, long published, long comments, long views) {
+        Update update = new Update().set("updatedAt", Instant.now());
+        if (posts != 0) {
+            update.inc("postCount", posts);
+        }
+        if (published != 0) {
+            update.inc("publishedCount", published);
+        }
+        if (comments != 0) {
+            update.inc("commentCount", comments);
+        }
+        if (views != 0) {
+            update.inc("totalViews", views);
+        }
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(userId)), update, UserStats.class);
+    }
+
+    @Override
+    public List<UserStats> recompute(Collection<UUID> userIds) {
+        Instant now = Instant.now();
+        Map<UUID, UserStats> stats = new LinkedHashMap<>();
+        for (UUID userId : userIds) {
+            stats.put(userId, UserStats.builder().userId(userId).updatedAt(now).build());
+        }
+
+        Aggregation posts = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("authorId").in(userIds)),
+                Aggregation.group("authorId")
+                        .count().as("postCount")
+                        .sum(ConditionalOperators.when(Criteria.where("published").is(true)).then(1).otherwise(0)).as("publishedCount")
+                        .sum("views").as("totalViews"));
+        for (Document row : mongoTemplate.aggregate(posts, mongoTemplate.getCollectionName(Post.class), Document.class)) {
+            UserStats userStats = stats.get(row.get("_id", UUID.class));
+            if (userStats != null) {
+                userStats.setPostCount(row.get("postCount", Number.class).longValue());
+                userStats.setPublishedCount(row.get("publishedCount", Number.class).longValue());
+                userStats.setTotalViews(row.get("totalViews", Number.class).longValue());
+            }
+        }
+
+        Aggregation comments = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("authorId").in(userIds)),
+                Aggregation.group("authorId").count().as("commentCount"));
+        for (Document row : mongoTemplate.aggregate(comments, mongoTemplate.getCollectionName(Comment.class), Document.class)) {
+            UserStats userStats = stats.get(row.get("_id", UUID.class));
+            if (userStats != null) {
+                userStats.setCommentCount(row.get("commentCount", Number.class).longValue());
+            }
+        }
+        return List.copyOf(stats.values());
+    }
+
+    @Override
+    public void replaceAll(Collection<UserStats> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserStats.class);
+        for (UserStats userStats : stats) {
+            bulk.replaceOne(new Query(Criteria.where("_id").is(userStats.getUserId())), userStats,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.BlogApp.repo.codec;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.UuidRepresentation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Field readers and writers shared by the entity codecs. Values are laid out exactly as
+ * {@code MappingMongoConverter} lays them out (STANDARD UUIDs, Instants as BSON dates,
+ * null fields omitted), so documents written by either path can be read by the other.
+ */
+final class BsonFields {
+
+    static final String CLASS_KEY = "_class";
+
+    private BsonFields() {
+    }
+
+    static void writeUuid(BsonWriter writer, String name, UUID value) {
+        if (value != null) {
+            writer.writeBinaryData(name, new BsonBinary(value, UuidRepresentation.STANDARD));
+        }
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeInstant(BsonWriter writer, String name, Instant value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.toEpochMilli());
+        }
+    }
+
+    static void writeStrings(BsonWriter writer, String name, Collection<String> values) {
+        if (values == null) {
+            return;
+        }
+        writer.writeStartArray(name);
+        for (String value : values) {
+            if (value == null) {
+                writer.writeNull();
+            } else {
+                writer.writeString(value);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    /**
+     * @return true if the current value is BSON null, which has then been consumed
+     */
+    static boolean readNull(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return true;
+        }
+        return false;
+    }
+
+    static UUID readUuid(BsonReader reader) {
+        if (readNull(reader)) {
+            return null;
+        }
+        BsonBinary binary = reader.readBinaryData();
+        if (binary.getType() != BsonBinarySubType.UUID_STANDARD.getValue()) {
+            throw new IllegalStateException("Expected a STANDARD (subtype 4) UUID but found subtype " + binary.getType());
+        }
+        return binary.asUuid(UuidRepresentation.STANDARD);
+    }
+
+    static String readString(BsonReader reader) {
+        return readNull(reader) ? null : reader.readString();
+    }
+
+    static Instant readInstant(BsonReader reader) {
+        return readNull(reader) ? null : Instant.ofEpochMilli(reader.readDateTime());
+    }
+
+    static long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case DOUBLE -> (long) reader.readDouble();
+            case NULL -> {
+                reader.readNull();
+                yield 0;
+            }
+            default -> throw new IllegalStateException("Expected a number but found " + reader.getCurrentBsonType());
+        };
+    }
+
+    static boolean readBoolean(BsonReader reader) {
+        return !readNull(reader) && reader.readBoolean();
+    }
+
+    static <C extends Collection<String>> C readStrings(BsonReader reader, C target) {
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            target.add(readString(reader));
+        }
+        reader.readEndArray();
+        return target;
+    }
+
+    static List<String> readStringList(BsonReader reader) {
+        return readNull(reader) ? null : readStrings(reader, new ArrayList<>());
+    }
+}
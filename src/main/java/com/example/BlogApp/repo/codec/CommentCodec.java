@@ -0,0 +1,56 @@
+package com.example.BlogApp.repo.codec;
+
+import com.example.BlogApp.model.Comment;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static com.example.BlogApp.repo.codec.BsonFields.*;
+
+/**
+ * Reads and writes {@link Comment} documents field by field, without reflection.
+ */
+public class CommentCodec implements Codec<Comment> {
+
+    @Override
+    public void encode(BsonWriter writer, Comment comment, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeUuid(writer, "_id", comment.getId());
+        writeString(writer, "content", comment.getContent());
+        writeUuid(writer, "authorId", comment.getAuthorId());
+        writeUuid(writer, "postId", comment.getPostId());
+        writer.writeBoolean("hidden", comment.isHidden());
+        writeInstant(writer, "createdAt", comment.getCreatedAt());
+        writeInstant(writer, "updatedAt", comment.getUpdatedAt());
+        writer.writeString(CLASS_KEY, Comment.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Comment decode(BsonReader reader, DecoderContext decoderContext) {
+        Comment comment = new Comment();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> comment.setId(readUuid(reader));
+                case "content" -> comment.setContent(readString(reader));
+                case "authorId" -> comment.setAuthorId(readUuid(reader));
+                case "postId" -> comment.setPostId(readUuid(reader));
+                case "hidden" -> comment.setHidden(readBoolean(reader));
+                case "createdAt" -> comment.setCreatedAt(readInstant(reader));
+                case "updatedAt" -> comment.setUpdatedAt(readInstant(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return comment;
+    }
+
+    @Override
+    public Class<Comment> getEncoderClass() {
+        return Comment.class;
+    }
+}
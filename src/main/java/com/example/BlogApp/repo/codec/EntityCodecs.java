@@ -0,0 +1,28 @@
+package com.example.BlogApp.repo.codec;
+
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * The hand-written entity codecs, for registration with the MongoClient and for
+ * collections read directly through the driver.
+ */
+public final class EntityCodecs {
+
+    private static final CodecRegistry REGISTRY = CodecRegistries.fromCodecs(
+            new PostCodec(), new CommentCodec(), new UserCodec());
+
+    private EntityCodecs() {
+    }
+
+    public static CodecRegistry registry() {
+        return REGISTRY;
+    }
+
+    /**
+     * @return the entity codecs in front of {@code fallback}
+     */
+    public static CodecRegistry withFallback(CodecRegistry fallback) {
+        return CodecRegistries.fromRegistries(REGISTRY, fallback);
+    }
+}
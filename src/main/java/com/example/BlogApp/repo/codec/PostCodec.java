@@ -0,0 +1,60 @@
+package com.example.BlogApp.repo.codec;
+
+import com.example.BlogApp.model.Post;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static com.example.BlogApp.repo.codec.BsonFields.*;
+
+/**
+ * Reads and writes {@link Post} documents field by field, without reflection.
+ */
+public class PostCodec implements Codec<Post> {
+
+    @Override
+    public void encode(BsonWriter writer, Post post, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeUuid(writer, "_id", post.getId());
+        writeString(writer, "title", post.getTitle());
+        writeString(writer, "content", post.getContent());
+        writeUuid(writer, "authorId", post.getAuthorId());
+        writeStrings(writer, "tags", post.getTags());
+        writer.writeInt64("views", post.getViews());
+        writer.writeBoolean("published", post.isPublished());
+        writeInstant(writer, "createdAt", post.getCreatedAt());
+        writeInstant(writer, "updatedAt", post.getUpdatedAt());
+        writer.writeString(CLASS_KEY, Post.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Post decode(BsonReader reader, DecoderContext decoderContext) {
+        Post post = new Post();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> post.setId(readUuid(reader));
+                case "title" -> post.setTitle(readString(reader));
+                case "content" -> post.setContent(readString(reader));
+                case "authorId" -> post.setAuthorId(readUuid(reader));
+                case "tags" -> post.setTags(readStringList(reader));
+                case "views" -> post.setViews(readLong(reader));
+                case "published" -> post.setPublished(readBoolean(reader));
+                case "createdAt" -> post.setCreatedAt(readInstant(reader));
+                case "updatedAt" -> post.setUpdatedAt(readInstant(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return post;
+    }
+
+    @Override
+    public Class<Post> getEncoderClass() {
+        return Post.class;
+    }
+}
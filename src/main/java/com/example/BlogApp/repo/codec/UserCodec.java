@@ -0,0 +1,63 @@
+package com.example.BlogApp.repo.codec;
+
+import com.example.BlogApp.model.User;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.LinkedHashSet;
+
+import static com.example.BlogApp.repo.codec.BsonFields.*;
+
+/**
+ * Reads and writes {@link User} documents field by field, without reflection.
+ * Fields left out by a projection, such as the password hash, stay null.
+ */
+public class UserCodec implements Codec<User> {
+
+    @Override
+    public void encode(BsonWriter writer, User user, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeUuid(writer, "_id", user.getId());
+        writeString(writer, "username", user.getUsername());
+        writeString(writer, "email", user.getEmail());
+        writeString(writer, "password", user.getPassword());
+        writeStrings(writer, "roles", user.getRoles());
+        writer.writeBoolean("deleted", user.isDeleted());
+        writeInstant(writer, "deletedAt", user.getDeletedAt());
+        writeInstant(writer, "createdAt", user.getCreatedAt());
+        writeInstant(writer, "updatedAt", user.getUpdatedAt());
+        writer.writeString(CLASS_KEY, User.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public User decode(BsonReader reader, DecoderContext decoderContext) {
+        User user = new User();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> user.setId(readUuid(reader));
+                case "username" -> user.setUsername(readString(reader));
+                case "email" -> user.setEmail(readString(reader));
+                case "password" -> user.setPassword(readString(reader));
+                case "roles" -> user.setRoles(readNull(reader) ? null : readStrings(reader, new LinkedHashSet<>()));
+                case "deleted" -> user.setDeleted(readBoolean(reader));
+                case "deletedAt" -> user.setDeletedAt(readInstant(reader));
+                case "createdAt" -> user.setCreatedAt(readInstant(reader));
+                case "updatedAt" -> user.setUpdatedAt(readInstant(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return user;
+    }
+
+    @Override
+    public Class<User> getEncoderClass() {
+        return User.class;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.BlogApp.security;
+
+import com.example.BlogApp.model.UserPrinciple;
+import com.example.BlogApp.repo.ReactiveUserRepo;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking equivalent of {@link MyUserDetailsService} for the reactive read path.
+ */
+@Log4j2
+@Service
+@AllArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class MyReactiveUserDetailsService implements ReactiveUserDetailsService {
+
+    private ReactiveUserRepo userRepo;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return userRepo.findByUsername(username)
+                .filter(user -> !user.isDeleted())
+                .<UserDetails>map(UserPrinciple::new)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.error("User not found: {}", username);
+                    return Mono.error(new UsernameNotFoundException(username));
+                }));
+    }
+}
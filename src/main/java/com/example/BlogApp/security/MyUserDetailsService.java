@@ -20,7 +20,7 @@ public class MyUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepo.findByUsername(username);
-        if (user == null) {
+        if (user == null || user.isDeleted()) {
             log.error("User not found: {}", username);
             throw new UsernameNotFoundException(username);
         }
@@ -0,0 +1,54 @@
+package com.example.BlogApp.security;
+
+import lombok.AllArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reactive equivalent of {@link JwtFilter}: authenticates a request from its bearer token.
+ * <p>
+ * A missing, malformed or expired token, or one naming an unknown or deleted user, leaves the
+ * request unauthenticated, so the security chain answers 401 for protected paths. Any other
+ * error, such as a failed user lookup, propagates and is answered as a server error. Not a bean,
+ * because WebFlux would register every {@link WebFilter} bean ahead of the security chain; it is
+ * added there by {@code ReactiveSecurityConfig}.
+ * </p>
+ */
+@AllArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private ReactiveUserDetailsService userDetailsService;
+
+    @Override
+    public @NonNull Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER)) {
+            return chain.filter(exchange);
+        }
+        String token = authHeader.substring(BEARER.length());
+        // getClaimsFromToken logs and returns null for tokens that cannot be parsed
+        if (jwtTokenProvider.getClaimsFromToken(token) == null) {
+            return chain.filter(exchange);
+        }
+
+        return userDetailsService.findByUsername(jwtTokenProvider.getUsernameFromToken(token))
+                .filter(userDetails -> jwtTokenProvider.validateToken(token, userDetails))
+                .map(userDetails -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())))
+                .onErrorResume(AuthenticationException.class, e -> Mono.empty())
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+}
@@ -4,12 +4,14 @@ import com.example.BlogApp.DTO.authDTO.LoginRequest;
 import com.example.BlogApp.DTO.authDTO.RegisterRequest;
 import com.example.BlogApp.exception.AuthenticationException;
 import com.example.BlogApp.model.User;
+import com.example.BlogApp.model.UserPrinciple;
 import com.example.BlogApp.repo.UserRepo;
 import com.example.BlogApp.security.JwtTokenProvider;
 import com.example.BlogApp.security.MyUserDetailsService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,6 +23,7 @@ import org.springframework.stereotype.Service;
 import java.util.Set;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @AllArgsConstructor
 @Slf4j
 public class AuthenticationService {
@@ -30,6 +33,7 @@ public class AuthenticationService {
     private JwtTokenProvider jwtTokenProvider;
     private MyUserDetailsService myUserDetailsService;
     private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private UsernamePrefixIndex usernamePrefixIndex;
 
     public boolean userExists(@NonNull RegisterRequest registerRequest) {
         boolean exists = userRepo.existsByUsername(registerRequest.getUsername()) || userRepo.existsByEmail(registerRequest.getEmail());
@@ -37,6 +41,12 @@ public class AuthenticationService {
         return exists;
     }
 
+    /**
+     * Register a new user with a single insert.
+     * Username and email uniqueness is enforced by the unique indexes, so a clash
+     * surfaces as a {@link org.springframework.dao.DuplicateKeyException} rather than
+     * being checked up front with extra queries.
+     */
     public User saveUser(@NonNull RegisterRequest registerRequest) {
         try {
             User user = new User();
@@ -44,7 +54,8 @@ public class AuthenticationService {
             user.setEmail(registerRequest.getEmail());
             user.setPassword(bCryptPasswordEncoder.encode(registerRequest.getPassword()));
             user.setRoles(Set.of("USER"));
-            User savedUser = userRepo.save(user);
+            User savedUser = userRepo.insert(user);
+            usernamePrefixIndex.put(savedUser.getId(), savedUser.getUsername());
             log.info("User {} registered successfully", savedUser.getUsername());
             return savedUser;
         } catch (Exception e) {
@@ -75,8 +86,20 @@ public class AuthenticationService {
     }
 
     /**
-     * Generate JWT token for a given user
-     * Used when registering a new user to immediately provide authentication
+     * Generate JWT token for a user that is already in hand
+     * Used when registering a new user, so the just-inserted user is not read back
+     *
+     * @param user the saved user to generate token for
+     * @return JWT token string
+     */
+    public String generateTokenForUser(@NonNull User user) {
+        String token = jwtTokenProvider.generateToken(new UserPrinciple(user));
+        log.info("JWT token generated for user: {}", user.getUsername());
+        return token;
+    }
+
+    /**
+     * Generate JWT token for a given username
      *
      * @param username the username to generate token for
      * @return JWT token string
@@ -0,0 +1,200 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.CommentBatchingProperties;
+import com.example.BlogApp.model.Comment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group-commit stage for comment inserts.
+ * <p>
+ * Request threads enqueue their comment and block on a future of their own, while a
+ * single flusher thread collects pending inserts until either {@code maxBatchSize}
+ * comments are waiting or {@code maxWait} has elapsed since the first one arrived,
+ * and then writes the whole batch with one {@code insertMany}.
+ * Disabled by default; see {@link CommentBatchingProperties}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CommentInsertBatcher {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final CommentBatchingProperties properties;
+    private final BlockingQueue<PendingInsert> queue;
+    private final DistributionSummary batchSizes;
+    private final Timer batchInsertTimer;
+    private final Counter insertedComments;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CommentInsertBatcher(MongoTemplate mongoTemplate, CommentBatchingProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("comments.batch.size")
+                .description("Number of comments written per insertMany")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchInsertTimer = Timer.builder("comments.batch.insert")
+                .description("Latency of batched comment inserts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.insertedComments = Counter.builder("comments.batch.inserted")
+                .description("Comments written through the batching stage")
+                .register(meterRegistry);
+        meterRegistry.gauge("comments.batch.queue.depth", queue, BlockingQueue::size);
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Queue a comment for the next batch and wait until that batch has been written.
+     * <p>
+     * {@code submitTimeout} bounds the whole call. A comment still queued when it runs out is
+     * withdrawn, so a failed call never inserts it later; one the flusher is already writing
+     * is waited for, as its outcome is no longer in doubt for long.
+     * </p>
+     *
+     * @param comment the comment to insert
+     * @return the persisted comment
+     */
+    public Comment insert(Comment comment) {
+        PendingInsert pending = new PendingInsert(comment, new CompletableFuture<>(), new AtomicBoolean());
+        long deadline = System.nanoTime() + properties.getSubmitTimeout().toNanos();
+        try {
+            if (!queue.offer(pending, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Comment insert queue is full");
+            }
+            try {
+                return pending.result().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claimed().compareAndSet(false, true)) {
+                    throw new IllegalStateException("Timed out waiting for comment insert", e);
+                }
+                // The flusher took it first; the write is under way
+                return pending.result().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for comment insert", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Comment insert failed", e.getCause());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform()
+                .daemon()
+                .name("comment-insert-batcher")
+                .start(this::runLoop);
+        log.info("Comment insert batching enabled (maxBatchSize={}, maxWait={})",
+                properties.getMaxBatchSize(), properties.getMaxWait());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusher.join(properties.getSubmitTimeout().toMillis());
+    }
+
+    private void runLoop() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long maxWaitNanos = properties.getMaxWait().toNanos();
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || (!queue.isEmpty() && !Thread.currentThread().isInterrupted())) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingInsert next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        queue.drainTo(batch);
+        batch.forEach(pending -> pending.result().completeExceptionally(
+                new IllegalStateException("Comment insert batcher stopped")));
+    }
+
+    private void flush(List<PendingInsert> queued) {
+        // Skip comments whose caller has already given up on them
+        List<PendingInsert> batch = queued.stream()
+                .filter(pending -> pending.claimed().compareAndSet(false, true))
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Comment> comments = batch.stream().map(PendingInsert::comment).toList();
+        Timer.Sample sample = Timer.start();
+        try {
+            Iterator<Comment> saved = mongoTemplate.insert(comments, Comment.class).iterator();
+            for (PendingInsert pending : batch) {
+                pending.result().complete(saved.next());
+            }
+            insertedComments.increment(batch.size());
+            log.debug("Inserted batch of {} comments", batch.size());
+        } catch (Exception e) {
+            log.error("Error inserting batch of {} comments: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        } finally {
+            sample.stop(batchInsertTimer);
+            batchSizes.record(batch.size());
+        }
+    }
+
+    private record PendingInsert(Comment comment, CompletableFuture<Comment> result, AtomicBoolean claimed) {
+    }
+}
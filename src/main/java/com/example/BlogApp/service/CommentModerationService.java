@@ -0,0 +1,177 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO;
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO.Action;
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO.Status;
+import com.example.BlogApp.config.ModerationProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.repo.CommentRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk moderation of all comments by one author.
+ * <p>
+ * Jobs run one at a time on a dedicated background thread. Each batch selects up to
+ * {@code batchSize} matching comment ids and removes or hides them with a single
+ * {@code deleteMany}/{@code updateMany}, pausing between batches so foreground traffic
+ * keeps its share of the database. Progress is kept in memory and can be polled by job id.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CommentModerationService {
+
+    private final CommentRepo commentRepo;
+    private final UserStatsService userStatsService;
+    private final ModerationProperties properties;
+    private final Executor executor;
+    private final Map<UUID, ModerationJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CommentModerationService(CommentRepo commentRepo, UserStatsService userStatsService, ModerationProperties properties) {
+        this(commentRepo, userStatsService, properties, Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().daemon().name("comment-moderation").factory()));
+    }
+
+    CommentModerationService(CommentRepo commentRepo, UserStatsService userStatsService,
+                             ModerationProperties properties, Executor executor) {
+        this.commentRepo = commentRepo;
+        this.userStatsService = userStatsService;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * Queue a job that deletes or hides every comment by the author, optionally within a time range.
+     *
+     * @param authorId the author whose comments to moderate
+     * @param action   whether to delete or hide the comments
+     * @param from     inclusive lower bound on createdAt, or null
+     * @param to       exclusive upper bound on createdAt, or null
+     * @return a snapshot of the queued job
+     */
+    public ModerationJobDTO moderateAuthor(UUID authorId, Action action, Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        evictFinishedJobs();
+
+        ModerationJob job = new ModerationJob(UUID.randomUUID(), authorId, action, from, to);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        log.info("Queued moderation job {} ({}) for comments by author {}", job.id, action, authorId);
+        return job.toDTO();
+    }
+
+    public ModerationJobDTO getJob(UUID jobId) {
+        ModerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Moderation job not found with id: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void run(ModerationJob job) {
+        job.status = Status.RUNNING;
+        job.startedAt = Instant.now();
+        boolean visibleOnly = job.action == Action.HIDE;
+        try {
+            while (true) {
+                List<UUID> ids = commentRepo.findIdsByAuthor(job.authorId, job.from, job.to, visibleOnly, properties.getBatchSize());
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long affected;
+                if (job.action == Action.DELETE) {
+                    affected = commentRepo.deleteByIdIn(ids);
+                    userStatsService.recordCommentsRemoved(job.authorId, affected);
+                } else {
+                    // Hidden comments still count towards the author's stats
+                    affected = commentRepo.hideByIdIn(ids);
+                }
+                job.processed.addAndGet(affected);
+                if (ids.size() < properties.getBatchSize()) {
+                    break;
+                }
+                Thread.sleep(properties.getPauseBetweenBatches());
+            }
+            job.status = Status.COMPLETED;
+            log.info("Moderation job {} completed: {} comments by author {} processed ({})",
+                    job.id, job.processed.get(), job.authorId, job.action);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (Exception e) {
+            log.error("Error running moderation job {} for author {}: {}", job.id, job.authorId, e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            job.finishedAt = Instant.now();
+        }
+    }
+
+    private void evictFinishedJobs() {
+        Instant cutoff = Instant.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class ModerationJob {
+        private final UUID id;
+        private final UUID authorId;
+        private final Action action;
+        private final Instant from;
+        private final Instant to;
+        private final AtomicLong processed = new AtomicLong();
+        private volatile Status status = Status.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private ModerationJob(UUID id, UUID authorId, Action action, Instant from, Instant to) {
+            this.id = id;
+            this.authorId = authorId;
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        private void fail(String message) {
+            error = message;
+            status = Status.FAILED;
+        }
+
+        private ModerationJobDTO toDTO() {
+            return ModerationJobDTO.builder()
+                    .id(id)
+                    .authorId(authorId)
+                    .action(action)
+                    .from(from)
+                    .to(to)
+                    .status(status)
+                    .processed(processed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.CommentPurgeProperties;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.PostTombstone;
+import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.PostRepo;
+import com.example.BlogApp.repo.PostTombstoneRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background purge of the comments left behind by deleted posts.
+ * <p>
+ * {@link PostService#deletePost} only queues the post id. A single worker thread takes
+ * posts off the queue one at a time and deletes their comments in {@code deleteMany}
+ * chunks of {@code batchSize}, pausing between chunks so the purge never competes with
+ * foreground traffic for long. Queue depth and purge throughput are published as
+ * {@code comments.purge.*} meters.
+ * </p>
+ * <p>
+ * The queue itself is only in memory; what makes the purge resumable is the
+ * {@link PostTombstone} written before the post is deleted and removed once its comments
+ * are gone. Tombstones left behind by a restart or a failed purge are queued again at
+ * startup and every {@code resumeInterval}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CommentPurgeService {
+
+    private static final long IDLE_POLL_MS = 100;
+    // Younger tombstones may belong to a delete still in progress, which queues its own purge
+    private static final Duration RESUME_GRACE = Duration.ofMinutes(1);
+
+    private final CommentRepo commentRepo;
+    private final PostRepo postRepo;
+    private final PostTombstoneRepo postTombstoneRepo;
+    private final UserStatsService userStatsService;
+    private final CommentPurgeProperties properties;
+    private final BlockingQueue<UUID> queue = new LinkedBlockingQueue<>();
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final Counter purgedComments;
+    private final Counter purgedPosts;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CommentPurgeService(CommentRepo commentRepo, PostRepo postRepo, PostTombstoneRepo postTombstoneRepo,
+                               UserStatsService userStatsService, CommentPurgeProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.commentRepo = commentRepo;
+        this.postRepo = postRepo;
+        this.postTombstoneRepo = postTombstoneRepo;
+        this.userStatsService = userStatsService;
+        this.properties = properties;
+        this.purgedComments = Counter.builder("comments.purge.deleted")
+                .description("Comments deleted by the post comment purge")
+                .register(meterRegistry);
+        this.purgedPosts = Counter.builder("comments.purge.posts")
+                .description("Deleted posts whose comments have been fully purged")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("comments.purge.batch")
+                .description("Latency of one comment purge deleteMany")
+                .register(meterRegistry);
+        meterRegistry.gauge("comments.purge.queue.depth", queue, BlockingQueue::size);
+    }
+
+    /**
+     * Persist the intent to purge a post's comments. Called before the post is deleted, so
+     * no deleted post is ever left without a record of its pending purge.
+     *
+     * @param postId the post about to be deleted
+     */
+    public void markForPurge(UUID postId) {
+        postTombstoneRepo.save(PostTombstone.builder().postId(postId).deletedAt(Instant.now()).build());
+    }
+
+    /**
+     * Queue the comments of a deleted post for removal and return immediately.
+     * Queuing a post that is already waiting is a no-op.
+     *
+     * @param postId the deleted post
+     */
+    public void enqueue(UUID postId) {
+        if (queued.add(postId)) {
+            queue.add(postId);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .daemon()
+                .name("comment-purge")
+                .start(this::runLoop);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void resumePending() {
+        try {
+            List<UUID> pending = postTombstoneRepo.findByDeletedAtBefore(Instant.now().minus(RESUME_GRACE)).stream()
+                    .map(PostTombstone::getPostId)
+                    .toList();
+            if (!pending.isEmpty()) {
+                log.info("Resuming comment purge of {} deleted posts", pending.size());
+            }
+            pending.forEach(this::enqueue);
+        } catch (Exception e) {
+            log.warn("Failed to resume pending comment purges: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Shutting down with {} posts still awaiting comment purge; they resume at next startup", queue.size());
+        }
+    }
+
+    /**
+     * Delete every comment on the post, one bounded chunk at a time.
+     *
+     * @return the number of comments deleted
+     */
+    long purge(UUID postId) throws InterruptedException {
+        long deleted = 0;
+        while (true) {
+            List<Comment> batch = commentRepo.findAuthorRefsByPostIds(Set.of(postId), properties.getBatchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<UUID> ids = batch.stream().map(Comment::getId).toList();
+            long removed = batchTimer.record(() -> commentRepo.deleteByIdIn(ids));
+            userStatsService.recordCommentsRemoved(batch);
+            purgedComments.increment(removed);
+            deleted += removed;
+            if (batch.size() < properties.getBatchSize()) {
+                break;
+            }
+            Thread.sleep(properties.getPauseBetweenBatches());
+        }
+        purgedPosts.increment();
+        return deleted;
+    }
+
+    /**
+     * Purge one tombstoned post and clear its tombstone. A post that still exists was never
+     * deleted (the delete failed after the tombstone was written), so only its tombstone goes.
+     */
+    void process(UUID postId) throws InterruptedException {
+        try {
+            if (postRepo.existsById(postId)) {
+                log.info("Post {} still exists; dropping its comment purge", postId);
+            } else {
+                long deleted = purge(postId);
+                log.info("Purged {} comments of deleted post {}", deleted, postId);
+            }
+            postTombstoneRepo.deleteById(postId);
+        } finally {
+            queued.remove(postId);
+        }
+    }
+
+    private void runLoop() {
+        long nextResume = System.nanoTime() + properties.getResumeInterval().toNanos();
+        while (running) {
+            UUID postId = null;
+            try {
+                postId = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (postId != null) {
+                    process(postId);
+                } else if (!properties.getResumeInterval().isZero() && System.nanoTime() - nextResume >= 0) {
+                    nextResume = System.nanoTime() + properties.getResumeInterval().toNanos();
+                    resumePending();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error purging comments of deleted post {}, it will be retried: {}", postId, e.getMessage());
+            }
+        }
+    }
+}
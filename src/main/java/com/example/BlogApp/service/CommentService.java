@@ -6,15 +6,19 @@ import com.example.BlogApp.DTO.userDTO.UserDTO;
 import com.example.BlogApp.exception.ResourceNotFoundException;
 import com.example.BlogApp.model.Comment;
 import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.HotPathReadRepo;
 import com.example.BlogApp.repo.PostRepo;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +28,13 @@ public class CommentService {
     private CommentRepo commentRepo;
     private PostRepo postRepo;
     private UserService userService;
+    private CommentInsertBatcher commentInsertBatcher;
+    private CommentStreamHub commentStreamHub;
+    private ContentFilterService contentFilterService;
+    private DuplicateCommentDetector duplicateCommentDetector;
+    private UserStatsService userStatsService;
+    private HotPathReadRepo hotPathReadRepo;
+    private CompositeReads compositeReads;
 
     public CommentDTO addComment(CreateCommentRequest request) {
         try {
@@ -32,17 +43,26 @@ public class CommentService {
                 throw new ResourceNotFoundException("Post not found with id: " + request.getPostId());
             }
 
+            contentFilterService.check(request.getContent());
+
             String currentUsername = getCurrentUsername();
             UserDTO currentUser = userService.getUserByUsername(currentUsername);
+            duplicateCommentDetector.check(currentUser.getId(), request.getContent());
 
             Comment comment = new Comment();
             comment.setContent(request.getContent());
             comment.setAuthorId(currentUser.getId());
             comment.setPostId(request.getPostId());
 
-            Comment savedComment = commentRepo.save(comment);
+            Comment savedComment = commentInsertBatcher.isEnabled()
+                    ? commentInsertBatcher.insert(comment)
+                    : commentRepo.save(comment);
+            duplicateCommentDetector.record(currentUser.getId(), request.getContent());
+            userStatsService.recordCommentsAdded(currentUser.getId(), 1);
             log.info("Comment added successfully for post {} by user {}", request.getPostId(), currentUsername);
-            return mapCommentToDTO(savedComment);
+            CommentDTO commentDTO = mapCommentToDTO(savedComment);
+            commentStreamHub.publish(commentDTO);
+            return commentDTO;
         } catch (Exception e) {
             log.error("Error adding comment to post {}: {}", request.getPostId(), e.getMessage());
             throw e;
@@ -51,13 +71,20 @@ public class CommentService {
 
     public List<CommentDTO> getCommentsByPost(UUID postId) {
         try {
-            // Verify post exists
-            if (!postRepo.existsById(postId)) {
-                throw new ResourceNotFoundException("Post not found with id: " + postId);
+            // The existence check and the comments query are independent, so both run at once
+            List<Comment> found;
+            try (CompositeReads.Scope scope = compositeReads.open()) {
+                Supplier<Boolean> postExists = scope.fork(() -> postRepo.existsById(postId));
+                Supplier<List<Comment>> comments = scope.fork(() -> hotPathReadRepo.findVisibleByPostId(postId));
+                scope.join();
+                if (!postExists.get()) {
+                    throw new ResourceNotFoundException("Post not found with id: " + postId);
+                }
+                found = comments.get();
             }
-
-            List<CommentDTO> comments = commentRepo.findByPostId(postId).stream()
-                    .map(this::mapCommentToDTO)
+            Map<UUID, UserDTO> authors = userService.getUsersByIds(found.stream().map(Comment::getAuthorId).distinct().toList());
+            List<CommentDTO> comments = found.stream()
+                    .map(comment -> mapCommentToDTO(comment, authors.get(comment.getAuthorId())))
                     .collect(Collectors.toList());
             log.info("Retrieved {} comments for post {}", comments.size(), postId);
             return comments;
@@ -67,8 +94,26 @@ public class CommentService {
         }
     }
 
+    public SseEmitter streamComments(UUID postId) {
+        try {
+            // Verify post exists
+            if (!postRepo.existsById(postId)) {
+                throw new ResourceNotFoundException("Post not found with id: " + postId);
+            }
+
+            SseEmitter emitter = commentStreamHub.subscribe(postId);
+            log.info("Subscribed to comment stream for post {}", postId);
+            return emitter;
+        } catch (Exception e) {
+            log.error("Error subscribing to comments for post {}: {}", postId, e.getMessage());
+            throw e;
+        }
+    }
+
     public CommentDTO updateComment(UUID commentId, CreateCommentRequest request) {
         try {
+            contentFilterService.check(request.getContent());
+
             Comment comment = commentRepo.findById(commentId)
                     .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + commentId));
 
@@ -84,10 +129,10 @@ public class CommentService {
 
     public void deleteComment(UUID commentId) {
         try {
-            if (!commentRepo.existsById(commentId)) {
-                throw new ResourceNotFoundException("Comment not found with id: " + commentId);
-            }
+            Comment comment = commentRepo.findById(commentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + commentId));
             commentRepo.deleteById(commentId);
+            userStatsService.recordCommentsRemoved(comment.getAuthorId(), 1);
             log.info("Comment with id {} deleted successfully", commentId);
         } catch (Exception e) {
             log.error("Error deleting comment with id {}: {}", commentId, e.getMessage());
@@ -96,15 +141,12 @@ public class CommentService {
     }
 
     private CommentDTO mapCommentToDTO(Comment comment) {
-        UserDTO authorDTO = userService.getUserById(comment.getAuthorId());
-
-        return CommentDTO.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .author(authorDTO)
-                .postId(comment.getPostId())
-                .createdAt(comment.getCreatedAt())
-                .build();
+        return mapCommentToDTO(comment, null);
+    }
+
+    private CommentDTO mapCommentToDTO(Comment comment, UserDTO prefetchedAuthor) {
+        UserDTO authorDTO = prefetchedAuthor != null ? prefetchedAuthor : userService.getUserById(comment.getAuthorId());
+        return DTOMappers.toCommentDTO(comment, authorDTO);
     }
 
     private String getCurrentUsername() {
@@ -0,0 +1,229 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
+import com.example.BlogApp.config.CommentStreamProperties;
+import com.example.BlogApp.config.CommentStreamProperties.OverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of newly added comments to Server-Sent Events subscribers.
+ * <p>
+ * Each subscriber owns a bounded buffer. Publishing never blocks the writer: it only
+ * enqueues the comment and schedules a drain on a virtual thread, so idle connections
+ * hold no thread at all. When a slow subscriber's buffer is full the configured
+ * {@link OverflowPolicy} decides whether to drop a comment or disconnect the client.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CommentStreamHub {
+
+    private final CommentStreamProperties properties;
+    private final Map<UUID, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Executor senders;
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("comment-stream-heartbeat").factory());
+    private final Counter deliveredEvents;
+    private final Counter droppedEvents;
+    private final Counter overflowDisconnects;
+
+    @Autowired
+    public CommentStreamHub(CommentStreamProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    CommentStreamHub(CommentStreamProperties properties, MeterRegistry meterRegistry, Executor senders) {
+        this.properties = properties;
+        this.senders = senders;
+        meterRegistry.gauge("comments.stream.subscribers", subscriberCount);
+        this.deliveredEvents = Counter.builder("comments.stream.delivered")
+                .description("Comment events written to SSE subscribers")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("comments.stream.dropped")
+                .description("Comment events discarded because a subscriber buffer was full")
+                .register(meterRegistry);
+        this.overflowDisconnects = Counter.builder("comments.stream.overflow.disconnects")
+                .description("Subscribers disconnected by the CLOSE overflow policy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Register a new subscriber for comments on the given post.
+     *
+     * @param postId the post to follow
+     * @return an emitter that the controller returns to keep the response open
+     */
+    public SseEmitter subscribe(UUID postId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(postId, emitter, properties.getBufferSize());
+
+        subscribersByPost.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Hand a freshly created comment to every subscriber of its post.
+     *
+     * @param comment the comment to broadcast
+     */
+    public void publish(CommentDTO comment) {
+        Set<Subscriber> subscribers = subscribersByPost.get(comment.getPostId());
+        if (subscribers == null) {
+            return;
+        }
+        OverflowPolicy policy = properties.getOverflowPolicy();
+        for (Subscriber subscriber : subscribers) {
+            switch (subscriber.offer(comment, policy)) {
+                case QUEUED -> scheduleDrain(subscriber);
+                case DROPPED -> {
+                    droppedEvents.increment();
+                    scheduleDrain(subscriber);
+                }
+                case OVERFLOW -> {
+                    droppedEvents.increment();
+                    overflowDisconnects.increment();
+                    log.debug("Closing comment stream for post {}: subscriber buffer full", subscriber.postId);
+                    subscriber.emitter.complete();
+                    unsubscribe(subscriber);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PostConstruct
+    void startHeartbeats() {
+        long intervalMs = properties.getHeartbeatInterval().toMillis();
+        if (intervalMs > 0) {
+            heartbeats.scheduleAtFixedRate(this::sendHeartbeats, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            subscriber.heartbeatDue.set(true);
+            scheduleDrain(subscriber);
+        }));
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.heartbeatDue.getAndSet(false)) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                CommentDTO comment;
+                while ((comment = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(comment.getId()))
+                            .name("comment")
+                            .data(comment));
+                    deliveredEvents.increment();
+                }
+                subscriber.draining.set(false);
+            } while (subscriber.hasPendingWork() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Comment stream for post {} closed: {}", subscriber.postId, e.getMessage());
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriber.buffer.clear();
+        subscribersByPost.computeIfPresent(subscriber.postId, (postId, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    enum OfferResult {
+        QUEUED,
+        DROPPED,
+        OVERFLOW
+    }
+
+    static final class Subscriber {
+        private final UUID postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<CommentDTO> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(UUID postId, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        OfferResult offer(CommentDTO comment, OverflowPolicy policy) {
+            if (buffer.offer(comment)) {
+                return OfferResult.QUEUED;
+            }
+            return switch (policy) {
+                case DROP_OLDEST -> {
+                    buffer.poll();
+                    buffer.offer(comment);
+                    yield OfferResult.DROPPED;
+                }
+                case DROP_NEWEST -> OfferResult.DROPPED;
+                case CLOSE -> OfferResult.OVERFLOW;
+            };
+        }
+
+        private boolean hasPendingWork() {
+            return !buffer.isEmpty() || heartbeatDue.get();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.CompositeReadProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent lookups of a composite read concurrently, one virtual thread each.
+ * <p>
+ * Shaped after {@code StructuredTaskScope} with a shutdown-on-failure policy, which is
+ * still a preview API on Java 25: {@link Scope#fork} starts a lookup with the caller's
+ * security context and request attributes, {@link Scope#join} waits for all of them and {@link Scope#close}
+ * cancels whatever is left. The first failure cancels its siblings and is rethrown as is,
+ * so a composite read takes as long as its slowest lookup and fails as fast as its first
+ * failing one.
+ * </p>
+ * <pre>{@code
+ * try (CompositeReads.Scope scope = compositeReads.open()) {
+ *     Supplier<Boolean> exists = scope.fork(() -> postRepo.existsById(postId));
+ *     Supplier<List<Comment>> comments = scope.fork(() -> commentRepo.findByPostId(postId));
+ *     scope.join();
+ *     ...
+ * }
+ * }</pre>
+ */
+@Component
+public class CompositeReads {
+
+    private final CompositeReadProperties properties;
+    private final Executor executor;
+
+    @Autowired
+    public CompositeReads(CompositeReadProperties properties) {
+        this(properties, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("composite-read-", 0).factory()));
+    }
+
+    CompositeReads(CompositeReadProperties properties, Executor executor) {
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * Open a scope bound to the calling thread's security context, request attributes and
+     * the configured timeout.
+     */
+    public Scope open() {
+        return new Scope(properties.isParallel() ? executor : Runnable::run,
+                SecurityContextHolder.getContext(),
+                RequestContextHolder.getRequestAttributes(),
+                System.nanoTime() + properties.getTimeout().toNanos());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * One composite read. Not thread-safe: fork, join and close from the thread that opened it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Executor executor;
+        private final SecurityContext securityContext;
+        private final RequestAttributes requestAttributes;
+        private final long deadline;
+        private final List<Future<?>> forked = new ArrayList<>();
+        private final BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+        private boolean joined;
+
+        private Scope(Executor executor, SecurityContext securityContext, RequestAttributes requestAttributes, long deadline) {
+            this.executor = executor;
+            this.securityContext = securityContext;
+            this.requestAttributes = requestAttributes;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Start a lookup.
+         *
+         * @return the lookup's result, readable once {@link #join} has returned
+         */
+        public <T> Supplier<T> fork(Callable<T> task) {
+            if (joined) {
+                throw new IllegalStateException("Cannot fork after join");
+            }
+            FutureTask<T> future = new FutureTask<>(DelegatingSecurityContextCallable.create(withRequestAttributes(task), securityContext)) {
+                @Override
+                protected void done() {
+                    completed.add(this);
+                }
+            };
+            forked.add(future);
+            try {
+                executor.execute(future);
+            } catch (RejectedExecutionException e) {
+                cancelAll();
+                throw e;
+            }
+            return () -> {
+                if (!joined) {
+                    throw new IllegalStateException("Result read before join");
+                }
+                return future.resultNow();
+            };
+        }
+
+        /**
+         * Wait for every forked lookup. On the first failure, or when the timeout expires,
+         * the remaining lookups are cancelled.
+         *
+         * @throws RuntimeException  the first lookup failure, unwrapped if unchecked
+         * @throws CompletionException wrapping a {@link TimeoutException} if the timeout expires
+         */
+        public void join() {
+            joined = true;
+            try {
+                for (int pending = forked.size(); pending > 0; pending--) {
+                    Future<?> done = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        cancelAll();
+                        throw new CompletionException(new TimeoutException("Composite read did not complete in time"));
+                    }
+                    if (done.state() == Future.State.FAILED) {
+                        cancelAll();
+                        throw propagate(done.exceptionNow());
+                    }
+                }
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a composite read");
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private <T> Callable<T> withRequestAttributes(Callable<T> task) {
+            return () -> {
+                // Restored rather than reset, as inline lookups run on the request thread itself
+                RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return task.call();
+                } finally {
+                    RequestContextHolder.setRequestAttributes(previous);
+                }
+            };
+        }
+
+        private void cancelAll() {
+            forked.forEach(future -> future.cancel(true));
+        }
+
+        private static RuntimeException propagate(Throwable failure) {
+            if (failure instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            return new CompletionException(failure);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.ContentFilterProperties;
+import com.example.BlogApp.exception.ContentRejectedException;
+import com.example.BlogApp.utils.contentFilter.AhoCorasickMatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rejects user content that contains a banned term.
+ * <p>
+ * The word list is compiled into an {@link AhoCorasickMatcher} so each check is one
+ * linear pass over the text. The list is polled for changes and recompiled in the
+ * background; the new automaton is swapped in atomically, so checks never block on a reload.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ContentFilterService {
+
+    private final ContentFilterProperties properties;
+    private final ResourceLoader resourceLoader;
+    private final AtomicReference<AhoCorasickMatcher> matcher = new AtomicReference<>(AhoCorasickMatcher.empty());
+    private final Counter rejectedContent;
+    private volatile long loadedVersion = Long.MIN_VALUE;
+    // Only started when the filter is enabled and polling is configured
+    private ScheduledExecutorService reloader;
+
+    public ContentFilterService(ContentFilterProperties properties, ResourceLoader resourceLoader, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+        this.rejectedContent = Counter.builder("content.filter.rejected")
+                .description("Writes rejected because they contained a banned term")
+                .register(meterRegistry);
+        meterRegistry.gauge("content.filter.terms", matcher, ref -> ref.get().size());
+    }
+
+    /**
+     * Verify that none of the given texts contains a banned term.
+     *
+     * @param texts the user-supplied texts to check; null entries are ignored
+     * @throws ContentRejectedException if a banned term is found
+     */
+    public void check(String... texts) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AhoCorasickMatcher current = matcher.get();
+        for (String text : texts) {
+            if (current.matches(text)) {
+                rejectedContent.increment();
+                throw new ContentRejectedException("Content contains a banned term");
+            }
+        }
+    }
+
+    /**
+     * Re-read the configured word list and swap in a freshly compiled automaton.
+     *
+     * @return the number of terms now active
+     */
+    public synchronized int reload() {
+        Resource resource = resourceLoader.getResource(properties.getWordList());
+        long version = lastModified(resource);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> terms = reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .toList();
+            AhoCorasickMatcher compiled = AhoCorasickMatcher.compile(terms);
+            matcher.set(compiled);
+            loadedVersion = version;
+            log.info("Loaded {} banned terms from {}", compiled.size(), properties.getWordList());
+            return compiled.size();
+        } catch (IOException e) {
+            log.error("Error loading banned terms from {}: {}", properties.getWordList(), e.getMessage());
+            return matcher.get().size();
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        reload();
+        long intervalMs = properties.getReloadInterval().toMillis();
+        if (intervalMs > 0) {
+            reloader = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().daemon().name("content-filter-reloader").factory());
+            reloader.scheduleWithFixedDelay(this::reloadIfChanged, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    private void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(properties.getWordList());
+        if (lastModified(resource) != loadedVersion) {
+            reload();
+        }
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return loadedVersion;
+        }
+    }
+}
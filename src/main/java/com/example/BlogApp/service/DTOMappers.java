@@ -0,0 +1,63 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
+import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.DTO.userDTO.UserSummaryDTO;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+
+/**
+ * Entity to DTO mapping shared by the blocking and reactive services.
+ * Authors are passed in already mapped, so each caller decides how to look them up.
+ */
+final class DTOMappers {
+
+    private DTOMappers() {
+    }
+
+    static UserDTO toUserDTO(User user) {
+        if (user == null) {
+            return null;
+        }
+        return UserDTO.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
+    static UserSummaryDTO toUserSummaryDTO(UserDTO user) {
+        return UserSummaryDTO.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .build();
+    }
+
+    static PostDTO toPostDTO(Post post, UserDTO author) {
+        return PostDTO.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .author(author)
+                .tags(post.getTags())
+                .views(post.getViews())
+                .published(post.isPublished())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
+    static CommentDTO toCommentDTO(Comment comment, UserDTO author) {
+        return CommentDTO.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .author(author)
+                .postId(comment.getPostId())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
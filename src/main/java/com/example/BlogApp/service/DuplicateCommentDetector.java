@@ -0,0 +1,264 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.DuplicateDetectionProperties;
+import com.example.BlogApp.exception.ContentRejectedException;
+import com.example.BlogApp.utils.contentFilter.SimHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rejects comments that are near-duplicates of recent comments, before anything is written.
+ * <p>
+ * Each comment is reduced to a 64-bit {@link SimHash} fingerprint and compared against a
+ * bounded, time-windowed in-memory history: the author's last few comments, and a global
+ * index bucketed by eight 8-bit bands of the fingerprint. Two fingerprints within seven
+ * bits of each other must agree on at least one band, so a lookup only scans eight
+ * capped buckets and the cost per comment stays constant however large the history grows.
+ * </p>
+ * <p>
+ * {@link #check} runs before the comment is saved and {@link #record} only after the save
+ * succeeded, so a failed write never blocks the author's retry. Each author's history is
+ * updated under its own map entry; only the global buckets share a lock.
+ * </p>
+ */
+@Slf4j
+@Service
+public class DuplicateCommentDetector {
+
+    private static final int BANDS = 8;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+    private static final int MAX_BANDED_DISTANCE = BANDS - 1;
+
+    private final DuplicateDetectionProperties properties;
+    private final Clock clock;
+    private final Map<UUID, ArrayDeque<Entry>> byAuthor = new ConcurrentHashMap<>();
+    private final ReentrantLock globalLock = new ReentrantLock();
+    private final Map<Long, ArrayDeque<Entry>> bandBuckets = new HashMap<>();
+    private final ArrayDeque<Entry> globalHistory = new ArrayDeque<>();
+    private final Counter authorRejections;
+    private final Counter globalRejections;
+
+    @Autowired
+    public DuplicateCommentDetector(DuplicateDetectionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    DuplicateCommentDetector(DuplicateDetectionProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.authorRejections = Counter.builder("comments.duplicates.rejected")
+                .tag("scope", "author")
+                .description("Comments rejected as near-duplicates")
+                .register(meterRegistry);
+        this.globalRejections = Counter.builder("comments.duplicates.rejected")
+                .tag("scope", "global")
+                .description("Comments rejected as near-duplicates")
+                .register(meterRegistry);
+        meterRegistry.gauge("comments.duplicates.tracked", globalHistory, ArrayDeque::size);
+    }
+
+    /**
+     * Check a new comment against recent history without remembering it.
+     *
+     * @param authorId the author of the comment
+     * @param content  the comment text
+     * @throws ContentRejectedException if the comment is a near-duplicate of recent content
+     */
+    public void check(UUID authorId, String content) {
+        Long fingerprint = fingerprintOf(content);
+        if (fingerprint == null) {
+            return;
+        }
+        int maxDistance = Math.min(properties.getMaxDistance(), MAX_BANDED_DISTANCE);
+        long cutoff = clock.millis() - properties.getWindow().toMillis();
+
+        boolean[] duplicate = new boolean[1];
+        byAuthor.computeIfPresent(authorId, (id, history) -> {
+            evictExpired(history, cutoff);
+            for (Entry entry : history) {
+                if (SimHash.distance(entry.fingerprint(), fingerprint) <= maxDistance) {
+                    duplicate[0] = true;
+                    break;
+                }
+            }
+            return history.isEmpty() ? null : history;
+        });
+        if (duplicate[0]) {
+            authorRejections.increment();
+            log.info("Rejected near-duplicate comment from author {}", authorId);
+            throw new ContentRejectedException("Comment rejected as a near-duplicate of a recent comment");
+        }
+
+        int globalMatches;
+        globalLock.lock();
+        try {
+            evictExpiredGlobal(cutoff);
+            globalMatches = countGlobalMatches(fingerprint, maxDistance);
+        } finally {
+            globalLock.unlock();
+        }
+        if (globalMatches >= properties.getGlobalThreshold()) {
+            globalRejections.increment();
+            log.info("Rejected near-duplicate comment from author {} matching recent comments by others", authorId);
+            throw new ContentRejectedException("Comment rejected as a near-duplicate of a recent comment");
+        }
+    }
+
+    /**
+     * Remember a comment that has been saved, so later near-duplicates of it are rejected.
+     *
+     * @param authorId the author of the comment
+     * @param content  the comment text
+     */
+    public void record(UUID authorId, String content) {
+        Long fingerprint = fingerprintOf(content);
+        if (fingerprint == null) {
+            return;
+        }
+        long now = clock.millis();
+        long cutoff = now - properties.getWindow().toMillis();
+        Entry entry = new Entry(fingerprint, now);
+
+        byAuthor.compute(authorId, (id, history) -> {
+            ArrayDeque<Entry> updated = history != null ? history : new ArrayDeque<>();
+            evictExpired(updated, cutoff);
+            updated.addLast(entry);
+            if (updated.size() > properties.getPerAuthorCapacity()) {
+                updated.pollFirst();
+            }
+            return updated;
+        });
+        if (byAuthor.size() > properties.getMaxTrackedAuthors()) {
+            evictAuthors(cutoff);
+        }
+
+        globalLock.lock();
+        try {
+            addGlobal(entry);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    /**
+     * The fingerprint to check, or null when the comment is not checked at all: detection is
+     * off, or the text has too few letters and digits for its fingerprint to tell comments
+     * apart (an emoji-only or punctuation-only comment normalizes to nothing).
+     */
+    private Long fingerprintOf(String content) {
+        if (!properties.isEnabled() || content == null) {
+            return null;
+        }
+        String normalized = SimHash.normalize(content);
+        if (normalized.isEmpty() || normalized.length() < properties.getMinLength()) {
+            return null;
+        }
+        return SimHash.fingerprint(normalized);
+    }
+
+    private static void evictExpired(ArrayDeque<Entry> history, long cutoff) {
+        while (!history.isEmpty() && history.peekFirst().timestamp() < cutoff) {
+            history.pollFirst();
+        }
+    }
+
+    private void evictAuthors(long cutoff) {
+        // Drop idle authors first, then arbitrary ones down to 90% so the sweep is amortized
+        for (UUID authorId : byAuthor.keySet()) {
+            byAuthor.computeIfPresent(authorId, (id, history) -> {
+                evictExpired(history, cutoff);
+                return history.isEmpty() ? null : history;
+            });
+        }
+        int target = properties.getMaxTrackedAuthors() - properties.getMaxTrackedAuthors() / 10;
+        Iterator<UUID> authors = byAuthor.keySet().iterator();
+        while (byAuthor.size() > target && authors.hasNext()) {
+            authors.next();
+            authors.remove();
+        }
+    }
+
+    private int countGlobalMatches(long fingerprint, int maxDistance) {
+        int matches = 0;
+        for (int band = 0; band < BANDS; band++) {
+            ArrayDeque<Entry> bucket = bandBuckets.get(bandKey(fingerprint, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Entry entry : bucket) {
+                // An entry sits in every band bucket it shares; count it only in its first shared band
+                if (SimHash.distance(entry.fingerprint(), fingerprint) <= maxDistance
+                        && firstSharedBand(entry.fingerprint(), fingerprint) == band) {
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void addGlobal(Entry entry) {
+        globalHistory.addLast(entry);
+        for (int band = 0; band < BANDS; band++) {
+            ArrayDeque<Entry> bucket = bandBuckets.computeIfAbsent(bandKey(entry.fingerprint(), band), key -> new ArrayDeque<>());
+            bucket.addLast(entry);
+            if (bucket.size() > properties.getGlobalBucketCapacity()) {
+                bucket.pollFirst();
+            }
+        }
+        if (globalHistory.size() > properties.getGlobalCapacity()) {
+            removeGlobal(globalHistory.pollFirst());
+        }
+    }
+
+    private void evictExpiredGlobal(long cutoff) {
+        while (!globalHistory.isEmpty() && globalHistory.peekFirst().timestamp() < cutoff) {
+            removeGlobal(globalHistory.pollFirst());
+        }
+    }
+
+    private void removeGlobal(Entry entry) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(entry.fingerprint(), band);
+            ArrayDeque<Entry> bucket = bandBuckets.get(key);
+            if (bucket != null) {
+                // Buckets are FIFO, so the evicted entry is at or near the head
+                bucket.removeFirstOccurrence(entry);
+                if (bucket.isEmpty()) {
+                    bandBuckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static int firstSharedBand(long a, long b) {
+        for (int band = 0; band < BANDS; band++) {
+            if (bandValue(a, band) == bandValue(b, band)) {
+                return band;
+            }
+        }
+        return -1;
+    }
+
+    private static long bandKey(long fingerprint, int band) {
+        return ((long) band << BAND_BITS) | bandValue(fingerprint, band);
+    }
+
+    private static long bandValue(long fingerprint, int band) {
+        return (fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1);
+    }
+
+    private record Entry(long fingerprint, long timestamp) {
+    }
+}
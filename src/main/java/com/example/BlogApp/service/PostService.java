@@ -1,11 +1,15 @@
 package com.example.BlogApp.service;
 
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
 import com.example.BlogApp.DTO.postDTO.CreatePostRequest;
 import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.postDTO.PostDetailDTO;
 import com.example.BlogApp.DTO.postDTO.UpdatePostRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
 import com.example.BlogApp.exception.ResourceNotFoundException;
 import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.PostDetail;
+import com.example.BlogApp.repo.HotPathReadRepo;
 import com.example.BlogApp.repo.PostRepo;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,19 +20,28 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class PostService {
+    static final int MAX_DETAIL_COMMENTS = 100;
+
     private PostRepo postRepo;
     private UserService userService;
+    private ContentFilterService contentFilterService;
+    private CommentPurgeService commentPurgeService;
+    private UserStatsService userStatsService;
+    private HotPathReadRepo hotPathReadRepo;
+    private CompositeReads compositeReads;
 
     public Page<PostDTO> getAllPosts(Pageable pageable) {
         try {
-            Page<PostDTO> posts = postRepo.findByPublishedTrue(pageable)
-                    .map(this::mapPostToDTO);
+            Page<PostDTO> posts = mapPostsToDTO(hotPathReadRepo.findPublishedFeed(pageable));
             log.info("Retrieved {} posts (page {}, size {})", posts.getTotalElements(), pageable.getPageNumber(), pageable.getPageSize());
             return posts;
         } catch (Exception e) {
@@ -42,20 +55,60 @@ public class PostService {
             Post post = postRepo.findById(postId)
                     .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
 
-            // Increment view count
-            post.setViews(post.getViews() + 1);
-            postRepo.save(post);
+            // The author lookup runs alongside the view writes; only the read is forked, so the
+            // scope's cancellation on failure never interrupts a write halfway
+            UserDTO author;
+            try (CompositeReads.Scope scope = compositeReads.open()) {
+                Supplier<UserDTO> authorLookup = scope.fork(() -> userService.getUserById(post.getAuthorId()));
+                postRepo.incrementViews(postId);
+                post.setViews(post.getViews() + 1);
+                userStatsService.recordPostViewed(post.getAuthorId());
+                scope.join();
+                author = authorLookup.get();
+            }
 
             log.info("Post with id {} retrieved, views incremented to {}", postId, post.getViews());
-            return mapPostToDTO(post);
+            return mapPostToDTO(post, author);
         } catch (Exception e) {
             log.error("Error retrieving post by id {}: {}", postId, e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Everything needed to render a post page, read with one aggregation, and counted as a view.
+     *
+     * @param commentLimit the number of comments to include, clamped to [1, {@value #MAX_DETAIL_COMMENTS}]
+     */
+    public PostDetailDTO getPostDetail(UUID postId, int commentLimit) {
+        try {
+            PostDetail detail = postRepo.findDetail(postId, Math.clamp(commentLimit, 1, MAX_DETAIL_COMMENTS))
+                    .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
+
+            Post post = detail.getPost();
+            postRepo.incrementViews(postId);
+            post.setViews(post.getViews() + 1);
+            userStatsService.recordPostViewed(post.getAuthorId());
+
+            List<CommentDTO> comments = detail.getComments().stream()
+                    .map(comment -> DTOMappers.toCommentDTO(comment, DTOMappers.toUserDTO(detail.getCommentAuthors().get(comment.getAuthorId()))))
+                    .toList();
+            log.info("Post detail for {} retrieved with {} of {} comments", postId, comments.size(), detail.getCommentCount());
+            return PostDetailDTO.builder()
+                    .post(mapPostToDTO(post, DTOMappers.toUserDTO(detail.getAuthor())))
+                    .commentCount(detail.getCommentCount())
+                    .comments(comments)
+                    .build();
+        } catch (Exception e) {
+            log.error("Error retrieving post detail for {}: {}", postId, e.getMessage());
+            throw e;
+        }
+    }
+
     public PostDTO createPost(CreatePostRequest request) {
         try {
+            contentFilterService.check(request.getTitle(), request.getContent());
+
             String currentUsername = getCurrentUsername();
             UserDTO currentUser = userService.getUserByUsername(currentUsername);
 
@@ -68,6 +121,7 @@ public class PostService {
             post.setViews(0);
 
             Post savedPost = postRepo.save(post);
+            userStatsService.recordPostCreated(savedPost.getAuthorId());
             log.info("Post '{}' created successfully by user {}", savedPost.getTitle(), currentUsername);
             return mapPostToDTO(savedPost);
         } catch (Exception e) {
@@ -78,6 +132,8 @@ public class PostService {
 
     public PostDTO updatePost(UUID postId, UpdatePostRequest request) {
         try {
+            contentFilterService.check(request.getTitle(), request.getContent());
+
             Post post = postRepo.findById(postId)
                     .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
 
@@ -103,12 +159,14 @@ public class PostService {
 
     public void deletePost(UUID postId) {
         try {
-            if (!postRepo.existsById(postId)) {
-                throw new ResourceNotFoundException("Post not found with id: " + postId);
-            }
+            Post post = postRepo.findById(postId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
 
+            commentPurgeService.markForPurge(postId);
             postRepo.deleteById(postId);
-            log.info("Post with id {} deleted successfully", postId);
+            userStatsService.recordPostDeleted(post);
+            commentPurgeService.enqueue(postId);
+            log.info("Post with id {} deleted successfully, comment purge queued", postId);
         } catch (Exception e) {
             log.error("Error deleting post with id {}: {}", postId, e.getMessage());
             throw e;
@@ -123,12 +181,10 @@ public class PostService {
             Page<PostDTO> posts;
             if (currentUser.getId().equals(authorId)) {
                 // If user is the author, show all posts (published and unpublished)
-                posts = postRepo.findByAuthorId(authorId, pageable)
-                        .map(this::mapPostToDTO);
+                posts = mapPostsToDTO(postRepo.findByAuthorId(authorId, pageable));
             } else {
                 // If user is not the author, show only published posts
-                posts = postRepo.findByAuthorIdAndPublishedTrue(authorId, pageable)
-                        .map(this::mapPostToDTO);
+                posts = mapPostsToDTO(postRepo.findByAuthorIdAndPublishedTrue(authorId, pageable));
             }
             log.info("Retrieved {} posts by author {} (page {}, size {})", posts.getTotalElements(), authorId, pageable.getPageNumber(), pageable.getPageSize());
             return posts;
@@ -140,8 +196,7 @@ public class PostService {
 
     public Page<PostDTO> searchPosts(String keyword, Pageable pageable) {
         try {
-            Page<PostDTO> posts = postRepo.findByTitleContainingOrContentContaining(keyword, keyword, pageable)
-                    .map(this::mapPostToDTO);
+            Page<PostDTO> posts = mapPostsToDTO(postRepo.findByTitleContainingOrContentContaining(keyword, keyword, pageable));
             log.info("Searched posts with keyword '{}' - found {} results (page {}, size {})", keyword, posts.getTotalElements(), pageable.getPageNumber(), pageable.getPageSize());
             return posts;
         } catch (Exception e) {
@@ -155,9 +210,13 @@ public class PostService {
             Post post = postRepo.findById(postId)
                     .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
 
+            boolean changed = !post.isPublished();
             post.setPublished(true);
             post.setUpdatedAt(Instant.now());
             Post updatedPost = postRepo.save(post);
+            if (changed) {
+                userStatsService.recordPostPublished(post.getAuthorId(), true);
+            }
             log.info("Post with id {} published successfully", postId);
             return mapPostToDTO(updatedPost);
         } catch (Exception e) {
@@ -171,9 +230,13 @@ public class PostService {
             Post post = postRepo.findById(postId)
                     .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
 
+            boolean changed = post.isPublished();
             post.setPublished(false);
             post.setUpdatedAt(Instant.now());
             Post updatedPost = postRepo.save(post);
+            if (changed) {
+                userStatsService.recordPostPublished(post.getAuthorId(), false);
+            }
             log.info("Post with id {} unpublished successfully", postId);
             return mapPostToDTO(updatedPost);
         } catch (Exception e) {
@@ -182,20 +245,19 @@ public class PostService {
         }
     }
 
+    private Page<PostDTO> mapPostsToDTO(Page<Post> posts) {
+        // Hydrate every author on the page with one bulk lookup instead of one per post
+        Map<UUID, UserDTO> authors = userService.getUsersByIds(posts.stream().map(Post::getAuthorId).distinct().toList());
+        return posts.map(post -> mapPostToDTO(post, authors.get(post.getAuthorId())));
+    }
+
     private PostDTO mapPostToDTO(Post post) {
-        UserDTO authorDTO = userService.getUserById(post.getAuthorId());
-
-        return PostDTO.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(authorDTO)
-                .tags(post.getTags())
-                .views(post.getViews())
-                .published(post.isPublished())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt())
-                .build();
+        return mapPostToDTO(post, null);
+    }
+
+    private PostDTO mapPostToDTO(Post post, UserDTO prefetchedAuthor) {
+        UserDTO authorDTO = prefetchedAuthor != null ? prefetchedAuthor : userService.getUserById(post.getAuthorId());
+        return DTOMappers.toPostDTO(post, authorDTO);
     }
 
     private String getCurrentUsername() {
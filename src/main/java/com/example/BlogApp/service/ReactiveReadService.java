@@ -0,0 +1,191 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
+import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.config.ReactiveReadProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.model.UserPrinciple;
+import com.example.BlogApp.repo.ReactiveCommentRepo;
+import com.example.BlogApp.repo.ReactivePostRepo;
+import com.example.BlogApp.repo.ReactiveUserRepo;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterparts of the read operations of {@link PostService} and {@link CommentService},
+ * served under the 'reactive' profile.
+ * <p>
+ * Responses are the same DTOs as on the servlet stack. Authors are hydrated from
+ * {@link UserDTOCache} first and the misses fetched with one {@code $in} query per page,
+ * so a request never holds a thread while it waits on MongoDB.
+ * </p>
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReadService {
+
+    private ReactivePostRepo postRepo;
+    private ReactiveCommentRepo commentRepo;
+    private ReactiveUserRepo userRepo;
+    private ReactiveMongoTemplate mongoTemplate;
+    private UserDTOCache userDTOCache;
+    private UserStatsService userStatsService;
+    private ReactiveReadProperties properties;
+
+    public Mono<Page<PostDTO>> getAllPosts(Pageable pageable) {
+        return toPage(postRepo.findByPublishedTrueOrderByCreatedAtDesc(pageable), postRepo.countByPublishedTrue(), pageable)
+                .doOnNext(posts -> log.info("Retrieved {} posts (page {}, size {})", posts.getTotalElements(), pageable.getPageNumber(), pageable.getPageSize()))
+                .doOnError(e -> log.error("Error retrieving all posts: {}", e.getMessage()));
+    }
+
+    /**
+     * The published feed, newest first, as a stream that follows the subscriber's demand.
+     * <p>
+     * Posts are requested from MongoDB {@code prefetch} at a time and each batch's authors are
+     * hydrated with a single lookup, so a slow client holds at most a couple of batches in memory.
+     * </p>
+     *
+     * @param limit the number of posts to emit, clamped to [1, max-stream-size]
+     */
+    public Flux<PostDTO> streamFeed(int limit) {
+        int size = Math.clamp(limit, 1, properties.getMaxStreamSize());
+        int prefetch = properties.getPrefetch();
+        return postRepo.findByPublishedTrueOrderByCreatedAtDesc(PageRequest.of(0, size))
+                .limitRate(prefetch)
+                .buffer(prefetch)
+                // One batch in hydration and one buffered behind it
+                .concatMap(batch -> mapPostsToDTO(batch).flatMapMany(Flux::fromIterable), 1)
+                .doOnComplete(() -> log.info("Streamed up to {} feed posts", size))
+                .doOnError(e -> log.error("Error streaming feed: {}", e.getMessage()));
+    }
+
+    /**
+     * A post counted as a view. Unpublished posts are only visible to their author and to admins.
+     */
+    public Mono<PostDTO> getPostById(UUID postId) {
+        return postRepo.findById(postId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Post not found with id: " + postId)))
+                .flatMap(post -> post.isPublished()
+                        ? Mono.just(post)
+                        : currentUser().filter(user -> canViewUnpublished(user, post))
+                                .map(user -> post)
+                                .switchIfEmpty(Mono.error(() -> new AccessDeniedException("Access Denied"))))
+                .flatMap(post -> {
+                    post.setViews(post.getViews() + 1);
+                    Mono<?> incrementViews = mongoTemplate.updateFirst(
+                            new Query(Criteria.where("_id").is(postId)), new Update().inc("views", 1), Post.class);
+                    // UserStatsService writes through the blocking template, so it runs off the event loop
+                    Mono<?> recordView = Mono.fromRunnable(() -> userStatsService.recordPostViewed(post.getAuthorId()))
+                            .subscribeOn(Schedulers.boundedElastic());
+                    return Mono.when(incrementViews, recordView)
+                            .then(getAuthors(List.of(post.getAuthorId())))
+                            .map(authors -> DTOMappers.toPostDTO(post, authors.get(post.getAuthorId())));
+                })
+                .doOnNext(post -> log.info("Post with id {} retrieved, views incremented to {}", postId, post.getViews()))
+                .doOnError(e -> log.error("Error retrieving post by id {}: {}", postId, e.getMessage()));
+    }
+
+    public Mono<Page<PostDTO>> searchPosts(String keyword, Pageable pageable) {
+        return toPage(postRepo.findByTitleContainingOrContentContaining(keyword, keyword, pageable),
+                postRepo.countByTitleContainingOrContentContaining(keyword, keyword), pageable)
+                .doOnNext(posts -> log.info("Searched posts with keyword '{}' - found {} results (page {}, size {})", keyword, posts.getTotalElements(), pageable.getPageNumber(), pageable.getPageSize()))
+                .doOnError(e -> log.error("Error searching posts with keyword {}: {}", keyword, e.getMessage()));
+    }
+
+    public Mono<List<CommentDTO>> getCommentsByPost(UUID postId) {
+        // The existence check and the comments query are independent, so both are in flight at once
+        return Mono.zip(postRepo.existsById(postId), commentRepo.findByPostIdAndHiddenNot(postId, true).collectList())
+                .flatMap(result -> {
+                    if (!result.getT1()) {
+                        return Mono.error(new ResourceNotFoundException("Post not found with id: " + postId));
+                    }
+                    List<Comment> found = result.getT2();
+                    return getAuthors(found.stream().map(Comment::getAuthorId).distinct().toList())
+                            .map(authors -> found.stream()
+                                    .map(comment -> DTOMappers.toCommentDTO(comment, authors.get(comment.getAuthorId())))
+                                    .toList());
+                })
+                .doOnNext(comments -> log.info("Retrieved {} comments for post {}", comments.size(), postId))
+                .doOnError(e -> log.error("Error retrieving comments for post {}: {}", postId, e.getMessage()));
+    }
+
+    private Mono<Page<PostDTO>> toPage(Flux<Post> content, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(content.collectList().flatMap(this::mapPostsToDTO), total)
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    private Mono<List<PostDTO>> mapPostsToDTO(List<Post> posts) {
+        // Hydrate every author in the batch with one bulk lookup instead of one per post
+        return getAuthors(posts.stream().map(Post::getAuthorId).distinct().toList())
+                .map(authors -> posts.stream()
+                        .map(post -> DTOMappers.toPostDTO(post, authors.get(post.getAuthorId())))
+                        .toList());
+    }
+
+    private Mono<Map<UUID, UserDTO>> getAuthors(List<UUID> userIds) {
+        Map<UUID, UserDTO> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID userId : userIds) {
+            UserDTO cached = userDTOCache.getIfPresent(userId);
+            if (cached != null) {
+                found.put(userId, cached);
+            } else if (userId != null) {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Mono.just(found);
+        }
+        return userRepo.findAllByIdIn(missing)
+                .map(DTOMappers::toUserDTO)
+                .doOnNext(userDTOCache::put)
+                .collectList()
+                .map(loaded -> {
+                    loaded.forEach(user -> found.put(user.getId(), user));
+                    return found;
+                });
+    }
+
+    private Mono<User> currentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getPrincipal)
+                .ofType(UserPrinciple.class)
+                .map(UserPrinciple::getUser);
+    }
+
+    private static boolean canViewUnpublished(User user, Post post) {
+        return Objects.equals(user.getId(), post.getAuthorId())
+                || (user.getRoles() != null && user.getRoles().contains("ADMIN"));
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.config.UserCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of {@link UserDTO} by id, with a username-to-id index.
+ * <p>
+ * Post and comment mapping hydrate the same few authors over and over; this keeps them
+ * in memory with LRU eviction and a time-to-live. {@link UserService} invalidates an
+ * entry whenever it updates or deletes the user. Hits and misses are counted under
+ * {@code users.cache.requests}, tagged by result, so the hit rate can be charted.
+ * </p>
+ */
+@Component
+public class UserDTOCache {
+
+    private final UserCacheProperties properties;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, Entry> byId;
+    private final Map<String, UUID> idByUsername = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public UserDTOCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    UserDTOCache(UserCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                if (size() > properties.getMaxSize()) {
+                    idByUsername.remove(usernameKey(eldest.getValue().user().getUsername()), eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hits = Counter.builder("users.cache.requests")
+                .tag("result", "hit")
+                .description("UserDTO cache lookups")
+                .register(meterRegistry);
+        this.misses = Counter.builder("users.cache.requests")
+                .tag("result", "miss")
+                .description("UserDTO cache lookups")
+                .register(meterRegistry);
+        meterRegistry.gauge("users.cache.size", this, UserDTOCache::size);
+    }
+
+    /**
+     * @return the cached user, or null if absent or expired
+     */
+    public UserDTO getIfPresent(UUID userId) {
+        if (!properties.isEnabled() || userId == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            return record(lookup(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the cached user with this username, or null if absent or expired
+     */
+    public UserDTO getIfPresent(String username) {
+        if (!properties.isEnabled() || username == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            UUID userId = idByUsername.get(usernameKey(username));
+            return record(userId == null ? null : lookup(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return every requested user, calling the loader once with only the ids that missed.
+     * Ids the loader does not return are absent from the result.
+     *
+     * @param userIds the users to fetch
+     * @param loader  bulk loader for the misses
+     * @return the users found, keyed by id
+     */
+    public Map<UUID, UserDTO> getAll(Collection<UUID> userIds, Function<Collection<UUID>, Collection<UserDTO>> loader) {
+        Map<UUID, UserDTO> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID userId : new LinkedHashSet<>(userIds)) {
+            UserDTO user = getIfPresent(userId);
+            if (user != null) {
+                found.put(userId, user);
+            } else if (userId != null) {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (UserDTO user : loader.apply(missing)) {
+                put(user);
+                found.put(user.getId(), user);
+            }
+        }
+        return found;
+    }
+
+    public void put(UserDTO user) {
+        if (!properties.isEnabled() || user == null || user.getId() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry previous = byId.put(user.getId(), new Entry(user, clock.millis() + properties.getTtl().toMillis()));
+            if (previous != null) {
+                idByUsername.remove(usernameKey(previous.user().getUsername()), user.getId());
+            }
+            if (user.getUsername() != null) {
+                idByUsername.put(usernameKey(user.getUsername()), user.getId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(UUID userId) {
+        lock.lock();
+        try {
+            Entry removed = byId.remove(userId);
+            if (removed != null) {
+                idByUsername.remove(usernameKey(removed.user().getUsername()), userId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Usernames are unique case-insensitively, so the index ignores case like the database does.
+     */
+    private static String usernameKey(String username) {
+        return username == null ? null : username.toLowerCase(Locale.ROOT);
+    }
+
+    private UserDTO lookup(UUID userId) {
+        Entry entry = byId.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.millis()) {
+            byId.remove(userId);
+            idByUsername.remove(usernameKey(entry.user().getUsername()), userId);
+            return null;
+        }
+        return entry.user();
+    }
+
+    private UserDTO record(UserDTO user) {
+        (user != null ? hits : misses).increment();
+        return user;
+    }
+
+    private record Entry(UserDTO user, long expiresAt) {
+    }
+}
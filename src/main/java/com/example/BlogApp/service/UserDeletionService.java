@@ -0,0 +1,170 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.UserDeletionProperties;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.PostRepo;
+import com.example.BlogApp.repo.UserRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Removes the posts and comments of deleted users in the background.
+ * <p>
+ * {@link UserService#deleteUser} only flags the account; this service then deletes the
+ * user's comments, the comments on the user's posts, the posts themselves and finally the
+ * user document, in bounded {@code deleteMany} batches with a pause between them. Every
+ * step selects by author or post, so it is idempotent: users still flagged are simply queued
+ * again at startup and every {@code resumeInterval}, which resumes any cleanup cut short by a
+ * crash, a restart or a failed batch. The
+ * user's stats document goes with the account, and other authors' comment counts are
+ * decremented for their comments removed along with the user's posts.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserDeletionService {
+
+    private final UserRepo userRepo;
+    private final PostRepo postRepo;
+    private final CommentRepo commentRepo;
+    private final UserStatsService userStatsService;
+    private final UserDeletionProperties properties;
+    private final Executor executor;
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public UserDeletionService(UserRepo userRepo, PostRepo postRepo, CommentRepo commentRepo,
+                               UserStatsService userStatsService, UserDeletionProperties properties) {
+        this(userRepo, postRepo, commentRepo, userStatsService, properties, Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("user-deletion").factory()));
+    }
+
+    UserDeletionService(UserRepo userRepo, PostRepo postRepo, CommentRepo commentRepo,
+                        UserStatsService userStatsService, UserDeletionProperties properties, Executor executor) {
+        this.userRepo = userRepo;
+        this.postRepo = postRepo;
+        this.commentRepo = commentRepo;
+        this.userStatsService = userStatsService;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * Queue the cleanup of a user already flagged as deleted. Queuing a user twice is a no-op.
+     *
+     * @param userId the deleted user
+     */
+    public void enqueue(UUID userId) {
+        if (queued.add(userId)) {
+            executor.execute(() -> run(userId));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void startResuming() {
+        resumePending();
+        Duration interval = properties.getResumeInterval();
+        if (executor instanceof ScheduledExecutorService scheduler && !interval.isZero()) {
+            // Runs on the cleanup thread between users; already queued users are skipped
+            scheduler.scheduleWithFixedDelay(this::resumePending, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void resumePending() {
+        try {
+            List<UUID> pending = userRepo.findDeletedIds();
+            if (!pending.isEmpty()) {
+                log.info("Resuming cleanup of {} deleted users", pending.size());
+            }
+            pending.forEach(this::enqueue);
+        } catch (Exception e) {
+            log.warn("Failed to resume cleanup of deleted users: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void run(UUID userId) {
+        int batchSize = properties.getBatchSize();
+        try {
+            long comments = drain(() -> commentRepo.findIdsByAuthor(userId, null, null, false, batchSize), commentRepo::deleteByIdIn);
+
+            long posts = 0;
+            long postComments = 0;
+            while (true) {
+                List<UUID> postIds = postRepo.findIdsByAuthor(userId, batchSize);
+                if (postIds.isEmpty()) {
+                    break;
+                }
+                postComments += drain(() -> commentRepo.findAuthorRefsByPostIds(postIds, batchSize), this::deleteCommentsOnPosts);
+                posts += postRepo.deleteByIdIn(postIds);
+                if (postIds.size() < batchSize) {
+                    break;
+                }
+                pause();
+            }
+
+            userRepo.deleteById(userId);
+            userStatsService.deleteStats(userId);
+            log.info("Cleanup of deleted user {} completed: {} comments, {} posts and {} comments on those posts removed",
+                    userId, comments, posts, postComments);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cleanup of deleted user {} interrupted; it will resume later", userId);
+        } catch (Exception e) {
+            log.error("Error cleaning up deleted user {}, it will be retried within {}: {}",
+                    userId, properties.getResumeInterval(), e.getMessage());
+        } finally {
+            queued.remove(userId);
+        }
+    }
+
+    private long deleteCommentsOnPosts(List<Comment> comments) {
+        long removed = commentRepo.deleteByIdIn(comments.stream().map(Comment::getId).toList());
+        // Other users' comments on the deleted posts still count towards their own stats
+        userStatsService.recordCommentsRemoved(comments);
+        return removed;
+    }
+
+    private <T> long drain(Supplier<List<T>> nextBatch, ToLongFunction<List<T>> delete) throws InterruptedException {
+        long removed = 0;
+        while (true) {
+            List<T> batch = nextBatch.get();
+            if (batch.isEmpty()) {
+                return removed;
+            }
+            removed += delete.applyAsLong(batch);
+            if (batch.size() < properties.getBatchSize()) {
+                return removed;
+            }
+            pause();
+        }
+    }
+
+    private void pause() throws InterruptedException {
+        Thread.sleep(properties.getPauseBetweenBatches());
+    }
+}
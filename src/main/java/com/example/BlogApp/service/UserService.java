@@ -1,7 +1,10 @@
 package com.example.BlogApp.service;
 
+import com.example.BlogApp.DTO.CursorPage;
 import com.example.BlogApp.DTO.userDTO.UpdateUserRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.DTO.userDTO.UserSummaryDTO;
+import com.example.BlogApp.config.UserSearchProperties;
 import com.example.BlogApp.exception.ResourceNotFoundException;
 import com.example.BlogApp.model.User;
 import com.example.BlogApp.repo.UserRepo;
@@ -11,23 +14,40 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private UserRepo userRepo;
     private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private UserDTOCache userDTOCache;
+    private UserDeletionService userDeletionService;
+    private UsernamePrefixIndex usernamePrefixIndex;
+    private UserSearchProperties userSearchProperties;
 
     public UserDTO getUserById(UUID userId) {
         try {
+            UserDTO cached = userDTOCache.getIfPresent(userId);
+            if (cached != null) {
+                return cached;
+            }
             User user = userRepo.findById(userId)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
             log.info("User with id {} retrieved successfully", userId);
-            return mapToUserDTO(user);
+            UserDTO userDTO = mapToUserDTO(user);
+            userDTOCache.put(userDTO);
+            return userDTO;
         } catch (Exception e) {
             log.error("Error retrieving user by id {}: {}", userId, e.getMessage());
             throw e;
@@ -36,46 +56,107 @@ public class UserService {
 
     public UserDTO getUserByUsername(String username) {
         try {
+            UserDTO cached = userDTOCache.getIfPresent(username);
+            if (cached != null) {
+                return cached;
+            }
             User user = userRepo.findByUsername(username);
             if (user == null) {
                 throw new ResourceNotFoundException("User not found with username: " + username);
             }
             log.info("User with username {} retrieved successfully", username);
-            return mapToUserDTO(user);
+            UserDTO userDTO = mapToUserDTO(user);
+            userDTOCache.put(userDTO);
+            return userDTO;
         } catch (Exception e) {
             log.error("Error retrieving user by username {}: {}", username, e.getMessage());
             throw e;
         }
     }
 
-    public UserDTO updateUserProfile(UUID userId, UpdateUserRequest request) {
+    /**
+     * Fetch several users at once, hitting the database only for ids not already cached.
+     * Ids that match no user are absent from the result.
+     *
+     * @param userIds the users to fetch
+     * @return the users found, keyed by id
+     */
+    public Map<UUID, UserDTO> getUsersByIds(Collection<UUID> userIds) {
         try {
-            User user = userRepo.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+            return userDTOCache.getAll(userIds, missing -> userRepo.findAllByIdIn(missing).stream()
+                    .map(this::mapToUserDTO)
+                    .toList());
+        } catch (Exception e) {
+            log.error("Error retrieving {} users by id: {}", userIds.size(), e.getMessage());
+            throw e;
+        }
+    }
 
-            // Check uniqueness for username if changed
-            if (request.getUsername() != null && !request.getUsername().equals(user.getUsername())) {
-                if (userRepo.existsByUsername(request.getUsername())) {
-                    throw new IllegalArgumentException("Username already exists");
-                }
-                user.setUsername(request.getUsername());
-            }
+    /**
+     * Resolve a batch of user ids in request order, skipping ids that match no user.
+     *
+     * @param userIds the users to fetch; duplicates are returned once
+     * @return the users found, in the order first requested
+     */
+    public List<UserSummaryDTO> getUsersBatch(List<UUID> userIds) {
+        Map<UUID, UserDTO> found = getUsersByIds(userIds);
+        List<UserSummaryDTO> users = userIds.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(DTOMappers::toUserSummaryDTO)
+                .toList();
+        log.info("Resolved {} of {} requested users", users.size(), userIds.size());
+        return users;
+    }
 
-            // Check uniqueness for email if changed
-            if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-                if (userRepo.existsByEmail(request.getEmail())) {
-                    throw new IllegalArgumentException("Email already exists");
-                }
-                user.setEmail(request.getEmail());
+    /**
+     * Users whose username starts with the prefix, ignoring case, in username order. Served
+     * from {@link UsernamePrefixIndex} when it is loaded, otherwise by a range query.
+     *
+     * @param limit the maximum number of users, clamped to [1, users.search.max-results]
+     */
+    public List<UserSummaryDTO> searchByUsernamePrefix(String prefix, int limit) {
+        try {
+            if (prefix == null || prefix.isBlank()) {
+                throw new IllegalArgumentException("Search prefix must not be blank");
             }
-
-            // Update password if provided
-            if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-                user.setPassword(bCryptPasswordEncoder.encode(request.getPassword()));
+            int maxResults = Math.clamp(limit, 1, userSearchProperties.getMaxResults());
+            List<UserDTO> users;
+            if (usernamePrefixIndex.isReady()) {
+                List<UUID> ids = usernamePrefixIndex.search(prefix, maxResults);
+                Map<UUID, UserDTO> found = getUsersByIds(ids);
+                users = ids.stream().map(found::get).filter(Objects::nonNull).toList();
+            } else {
+                users = userRepo.findByUsernamePrefix(prefix, maxResults).stream()
+                        .map(this::mapToUserDTO)
+                        .toList();
             }
+            log.info("Found {} users with username prefix '{}'", users.size(), prefix);
+            return users.stream().map(DTOMappers::toUserSummaryDTO).toList();
+        } catch (Exception e) {
+            log.error("Error searching users by username prefix {}: {}", prefix, e.getMessage());
+            throw e;
+        }
+    }
 
-            user.setUpdatedAt(Instant.now());
-            userRepo.save(user);
+    /**
+     * Update the changed profile fields in one atomic findAndModify.
+     * A username or email already taken by another user is rejected by the unique
+     * indexes and surfaces as a {@link org.springframework.dao.DuplicateKeyException}.
+     */
+    public UserDTO updateUserProfile(UUID userId, UpdateUserRequest request) {
+        try {
+            String passwordHash = request.getPassword() != null && !request.getPassword().isEmpty()
+                    ? bCryptPasswordEncoder.encode(request.getPassword())
+                    : null;
+
+            User user = userRepo.updateProfile(userId, request.getUsername(), request.getEmail(), passwordHash, Instant.now());
+            if (user == null) {
+                throw new ResourceNotFoundException("User not found with id: " + userId);
+            }
+            userDTOCache.invalidate(userId);
+            usernamePrefixIndex.put(userId, user.getUsername());
             log.info("User profile for id {} updated successfully", userId);
             return mapToUserDTO(user);
         } catch (Exception e) {
@@ -84,26 +165,69 @@ public class UserService {
         }
     }
 
-    public List<UserDTO> getAllUsers() {
+    /**
+     * Keyset-paginated listing of all users, ordered by id.
+     *
+     * @param cursor the id of the last user on the previous page, or null for the first page
+     * @param limit  the requested page size, clamped to [1, {@value #MAX_PAGE_SIZE}]
+     */
+    public CursorPage<UserDTO> getAllUsers(UUID cursor, int limit) {
         try {
-            List<UserDTO> users = userRepo.findAll().stream()
+            int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+            // Fetch one extra user to learn whether another page follows
+            List<User> users = userRepo.findPageAfter(cursor, pageSize + 1);
+            boolean hasMore = users.size() > pageSize;
+            List<UserDTO> items = users.stream()
+                    .limit(pageSize)
                     .map(this::mapToUserDTO)
                     .toList();
-            log.info("Retrieved {} users", users.size());
-            return users;
+            log.info("Retrieved page of {} users", items.size());
+            return CursorPage.<UserDTO>builder()
+                    .items(items)
+                    .hasMore(hasMore)
+                    .nextCursor(hasMore ? items.getLast().getId().toString() : null)
+                    .build();
+        } catch (Exception e) {
+            log.error("Error retrieving users page after {}: {}", cursor, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Hand every user to the sink one at a time while walking a database cursor,
+     * so memory use does not grow with the number of users.
+     *
+     * @param sink receives each user in turn
+     * @return the number of users exported
+     */
+    public long exportUsers(Consumer<UserDTO> sink) {
+        long exported = 0;
+        try (Stream<User> users = userRepo.streamAll()) {
+            for (User user : (Iterable<User>) users::iterator) {
+                sink.accept(mapToUserDTO(user));
+                exported++;
+            }
+            log.info("Exported {} users", exported);
+            return exported;
         } catch (Exception e) {
-            log.error("Error retrieving all users: {}", e.getMessage());
+            log.error("Error exporting users after {} records: {}", exported, e.getMessage());
             throw e;
         }
     }
 
+    /**
+     * Flag the account as deleted and hand the removal of its posts and comments to
+     * {@link UserDeletionService}. The user can no longer sign in once this returns.
+     */
     public void deleteUser(UUID userId) {
         try {
-            if (!userRepo.existsById(userId)) {
+            if (!userRepo.markDeleted(userId, Instant.now())) {
                 throw new ResourceNotFoundException("User not found with id: " + userId);
             }
-            userRepo.deleteById(userId);
-            log.info("User with id {} deleted successfully", userId);
+            userDTOCache.invalidate(userId);
+            usernamePrefixIndex.remove(userId);
+            userDeletionService.enqueue(userId);
+            log.info("User with id {} marked as deleted, cleanup queued", userId);
         } catch (Exception e) {
             log.error("Error deleting user with id {}: {}", userId, e.getMessage());
             throw e;
@@ -111,12 +235,6 @@ public class UserService {
     }
 
     private UserDTO mapToUserDTO(User user) {
-        return UserDTO.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(user.getUpdatedAt())
-                .build();
+        return DTOMappers.toUserDTO(user);
     }
 }
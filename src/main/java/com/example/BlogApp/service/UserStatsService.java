@@ -0,0 +1,204 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.userDTO.UserStatsDTO;
+import com.example.BlogApp.config.UserStatsProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.model.UserStats;
+import com.example.BlogApp.repo.UserRepo;
+import com.example.BlogApp.repo.UserStatsRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user activity counters served from the {@code user_stats} collection.
+ * <p>
+ * Post and comment writes apply their deltas with a single upserting {@code $inc}, so
+ * reading a user's stats is one primary-key lookup instead of counting posts and comments.
+ * A failed increment is only logged: the {@link #repair() repair job} recomputes every
+ * user's counters from the source collections, paging through users on a coordinator
+ * thread and aggregating up to {@code repairParallelism} batches at a time.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserStatsService {
+
+    private final UserStatsRepo userStatsRepo;
+    private final UserRepo userRepo;
+    private final UserStatsProperties properties;
+    private final Executor coordinator;
+    private final Executor workers;
+    private final AtomicBoolean repairing = new AtomicBoolean();
+
+    @Autowired
+    public UserStatsService(UserStatsRepo userStatsRepo, UserRepo userRepo, UserStatsProperties properties) {
+        this(userStatsRepo, userRepo, properties,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("user-stats-repair").factory()),
+                Executors.newFixedThreadPool(properties.getRepairParallelism(),
+                        Thread.ofPlatform().daemon().name("user-stats-repair-", 0).factory()));
+    }
+
+    UserStatsService(UserStatsRepo userStatsRepo, UserRepo userRepo, UserStatsProperties properties,
+                     Executor coordinator, Executor workers) {
+        this.userStatsRepo = userStatsRepo;
+        this.userRepo = userRepo;
+        this.properties = properties;
+        this.coordinator = coordinator;
+        this.workers = workers;
+    }
+
+    public UserStatsDTO getStats(UUID userId) {
+        try {
+            UserStats stats = userStatsRepo.findById(userId).orElseGet(() -> {
+                // No writes recorded yet; only an unknown user is an error
+                if (!userRepo.existsById(userId)) {
+                    throw new ResourceNotFoundException("User not found with id: " + userId);
+                }
+                return UserStats.builder().userId(userId).build();
+            });
+            log.info("Stats retrieved for user {}", userId);
+            return mapStatsToDTO(stats);
+        } catch (Exception e) {
+            log.error("Error retrieving stats for user {}: {}", userId, e.getMessage());
+            throw e;
+        }
+    }
+
+    public void recordPostCreated(UUID authorId) {
+        increment(authorId, 1, 0, 0, 0);
+    }
+
+    public void recordPostPublished(UUID authorId, boolean published) {
+        increment(authorId, 0, published ? 1 : -1, 0, 0);
+    }
+
+    public void recordPostViewed(UUID authorId) {
+        increment(authorId, 0, 0, 0, 1);
+    }
+
+    public void recordPostDeleted(Post post) {
+        increment(post.getAuthorId(), -1, post.isPublished() ? -1 : 0, 0, -post.getViews());
+    }
+
+    public void recordCommentsAdded(UUID authorId, long count) {
+        increment(authorId, 0, 0, count, 0);
+    }
+
+    public void recordCommentsRemoved(UUID authorId, long count) {
+        increment(authorId, 0, 0, -count, 0);
+    }
+
+    /**
+     * Decrement the comment count of every author among the given comments, one update per author.
+     */
+    public void recordCommentsRemoved(Collection<Comment> comments) {
+        comments.stream()
+                .collect(Collectors.groupingBy(Comment::getAuthorId, Collectors.counting()))
+                .forEach(this::recordCommentsRemoved);
+    }
+
+    public void deleteStats(UUID userId) {
+        userStatsRepo.deleteById(userId);
+    }
+
+    /**
+     * Start recomputing every user's stats in the background.
+     *
+     * @return false if a repair is already running
+     */
+    public boolean repair() {
+        if (!repairing.compareAndSet(false, true)) {
+            return false;
+        }
+        coordinator.execute(this::runRepair);
+        log.info("User stats repair queued");
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (coordinator instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void runRepair() {
+        int parallelism = properties.getRepairParallelism();
+        Semaphore slots = new Semaphore(parallelism);
+        AtomicLong repaired = new AtomicLong();
+        try {
+            UUID cursor = null;
+            while (true) {
+                List<User> page = userRepo.findPageAfter(cursor, properties.getRepairBatchSize());
+                if (page.isEmpty()) {
+                    break;
+                }
+                List<UUID> userIds = page.stream().map(User::getId).toList();
+                slots.acquire();
+                workers.execute(() -> {
+                    try {
+                        userStatsRepo.replaceAll(userStatsRepo.recompute(userIds));
+                        repaired.addAndGet(userIds.size());
+                    } catch (Exception e) {
+                        log.error("Error repairing stats for {} users: {}", userIds.size(), e.getMessage());
+                    } finally {
+                        slots.release();
+                    }
+                });
+                if (page.size() < properties.getRepairBatchSize()) {
+                    break;
+                }
+                cursor = userIds.getLast();
+            }
+            // Wait for the batches still in flight
+            slots.acquire(parallelism);
+            slots.release(parallelism);
+            log.info("User stats repair completed: {} users recomputed", repaired.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("User stats repair interrupted after {} users", repaired.get());
+        } catch (Exception e) {
+            log.error("Error running user stats repair: {}", e.getMessage());
+        } finally {
+            repairing.set(false);
+        }
+    }
+
+    private void increment(UUID userId, long posts, long published, long comments, long views) {
+        try {
+            userStatsRepo.increment(userId, posts, published, comments, views);
+        } catch (Exception e) {
+            // The write itself succeeded; the repair job corrects the drift
+            log.warn("Failed to update stats for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private UserStatsDTO mapStatsToDTO(UserStats stats) {
+        return UserStatsDTO.builder()
+                .userId(stats.getUserId())
+                .postCount(stats.getPostCount())
+                .publishedCount(stats.getPublishedCount())
+                .commentCount(stats.getCommentCount())
+                .totalViews(stats.getTotalViews())
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.UserSearchProperties;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.repo.UserRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory sorted index of usernames for prefix search.
+ * <p>
+ * Usernames are kept lower-cased (they are unique case-insensitively) in a concurrent
+ * skip list, so a prefix lookup is a bounded range scan of at most {@code limit} entries
+ * that never touches the database. The index is filled from {@link UserRepo} once the
+ * application is ready and kept current by registration, profile updates and deletion;
+ * until loading finishes {@link #isReady()} is false and callers fall back to a query.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UsernamePrefixIndex {
+
+    private final UserRepo userRepo;
+    private final UserSearchProperties properties;
+    private final NavigableMap<String, UUID> idByUsername = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> usernameById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public UsernamePrefixIndex(UserRepo userRepo, UserSearchProperties properties, MeterRegistry meterRegistry) {
+        this.userRepo = userRepo;
+        this.properties = properties;
+        meterRegistry.gauge("users.search.index.size", usernameById, Map::size);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void load() {
+        if (!properties.isIndexEnabled()) {
+            return;
+        }
+        try (Stream<User> users = userRepo.streamAll()) {
+            users.filter(user -> !user.isDeleted()).forEach(user -> put(user.getId(), user.getUsername()));
+            ready = true;
+            log.info("Username prefix index loaded with {} users", usernameById.size());
+        } catch (Exception e) {
+            log.warn("Failed to load username prefix index, searches will query the database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Add a user, or move an existing user to a new username.
+     */
+    public void put(UUID userId, String username) {
+        if (!properties.isIndexEnabled() || userId == null || username == null) {
+            return;
+        }
+        String key = key(username);
+        String previous = usernameById.put(userId, key);
+        if (previous != null && !previous.equals(key)) {
+            idByUsername.remove(previous, userId);
+        }
+        idByUsername.put(key, userId);
+    }
+
+    public void remove(UUID userId) {
+        String previous = usernameById.remove(userId);
+        if (previous != null) {
+            idByUsername.remove(previous, userId);
+        }
+    }
+
+    /**
+     * @return the ids of up to {@code limit} users whose username starts with the prefix, ignoring case, in username order
+     */
+    public List<UUID> search(String prefix, int limit) {
+        String from = key(prefix);
+        // Every string starting with the prefix sorts below prefix + U+FFFF
+        return idByUsername.subMap(from, true, from + Character.MAX_VALUE, false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
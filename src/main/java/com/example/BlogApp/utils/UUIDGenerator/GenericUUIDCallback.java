@@ -5,14 +5,28 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
+/**
+ * Assigns an id to every new {@link Identifiable}: a time-ordered version 7 UUID for entities
+ * annotated with {@link TimeOrderedId}, a random version 4 UUID otherwise.
+ */
 @Component
 public class GenericUUIDCallback implements BeforeConvertCallback<Identifiable> {
 
+    private static final ClassValue<Supplier<UUID>> ID_SOURCES = new ClassValue<>() {
+        @Override
+        protected Supplier<UUID> computeValue(Class<?> type) {
+            return type.isAnnotationPresent(TimeOrderedId.class)
+                    ? UUIDv7Generator.shared()::next
+                    : UUID::randomUUID;
+        }
+    };
+
     @Override
     public Identifiable onBeforeConvert(Identifiable entity, @NonNull String collection) {
         if (entity.getId() == null) {
-            entity.setId(UUID.randomUUID());
+            entity.setId(ID_SOURCES.get(entity.getClass()).get());
         }
         return entity;
     }
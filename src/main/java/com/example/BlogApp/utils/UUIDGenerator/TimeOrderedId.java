@@ -0,0 +1,21 @@
+package com.example.BlogApp.utils.UUIDGenerator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link Identifiable} entity whose ids {@link GenericUUIDCallback} should draw from
+ * {@link UUIDv7Generator} instead of {@link java.util.UUID#randomUUID()}.
+ * <p>
+ * Time-ordered ids make inserts append to the right edge of the {@code _id} index and let
+ * {@code _id} double as a creation-order sort key for keyset pagination.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TimeOrderedId {
+}
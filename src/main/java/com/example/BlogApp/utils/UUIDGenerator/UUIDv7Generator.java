@@ -0,0 +1,63 @@
+package com.example.BlogApp.utils.UUIDGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free generator of RFC 9562 version 7 UUIDs that are strictly increasing per generator.
+ * <p>
+ * The top 48 bits hold the Unix time in milliseconds and the 12-bit {@code rand_a} field is a
+ * counter (RFC 9562, section 6.2, method 1), so ids created in the same millisecond still sort
+ * in creation order. Timestamp and counter share one {@link AtomicLong} updated by CAS: if the
+ * clock stalls or steps back, or the counter runs out within a millisecond, the next id simply
+ * borrows the following millisecond. The remaining 62 bits are random.
+ * </p>
+ * <p>
+ * With the STANDARD UUID representation MongoDB stores these big-endian, so their binary
+ * order, their {@link UUID#compareTo} order and their creation order all agree.
+ * </p>
+ */
+public final class UUIDv7Generator {
+
+    private static final UUIDv7Generator SHARED = new UUIDv7Generator(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_LSB = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    /** Unix millis shifted left by {@value #COUNTER_BITS}, plus the counter. */
+    private final AtomicLong last = new AtomicLong();
+
+    UUIDv7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the process-wide generator, so ids stay monotonic across every entity type
+     */
+    public static UUIDv7Generator shared() {
+        return SHARED;
+    }
+
+    public UUID next() {
+        long candidate = clock.getAsLong() << COUNTER_BITS;
+        long stamp = last.accumulateAndGet(candidate, (previous, now) -> now > previous ? now : previous + 1);
+        long mostSigBits = ((stamp >>> COUNTER_BITS) << 16) | VERSION | (stamp & ((1L << COUNTER_BITS) - 1));
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_LSB);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * @return the Unix time in milliseconds encoded in a version 7 UUID
+     */
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
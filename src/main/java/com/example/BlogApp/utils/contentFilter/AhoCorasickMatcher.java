@@ -0,0 +1,196 @@
+package com.example.BlogApp.utils.contentFilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton for case-insensitive, whole-word term matching.
+ * <p>
+ * The trie is compiled once into flat arrays (sorted child edges per state, failure
+ * links and dictionary-suffix links), so scanning a text costs a single pass over its
+ * characters regardless of how many terms were compiled in. A term only matches when
+ * it is not surrounded by other letters or digits, so "ass" does not match "class".
+ * </p>
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final AhoCorasickMatcher EMPTY = compile(List.of());
+
+    private final int[] edgeOffsets;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    private final int[] dictionaryLink;
+    private final String[] terms;
+    private final int termCount;
+
+    private AhoCorasickMatcher(int[] edgeOffsets, char[] edgeChars, int[] edgeTargets,
+                               int[] failure, int[] dictionaryLink, String[] terms, int termCount) {
+        this.edgeOffsets = edgeOffsets;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.dictionaryLink = dictionaryLink;
+        this.terms = terms;
+        this.termCount = termCount;
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build an automaton from the given terms. Terms are trimmed and lower-cased;
+     * blank entries are ignored.
+     *
+     * @param rawTerms the terms to match
+     * @return the compiled matcher
+     */
+    public static AhoCorasickMatcher compile(Collection<String> rawTerms) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<String> terminal = new ArrayList<>();
+        children.add(new HashMap<>());
+        terminal.add(null);
+
+        int termCount = 0;
+        for (String rawTerm : rawTerms) {
+            String term = normalize(rawTerm);
+            if (term.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                Integer next = children.get(state).get(term.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    terminal.add(null);
+                    children.get(state).put(term.charAt(i), next);
+                }
+                state = next;
+            }
+            if (terminal.get(state) == null) {
+                terminal.set(state, term);
+                termCount++;
+            }
+        }
+
+        int stateCount = children.size();
+        int[] edgeOffsets = new int[stateCount + 1];
+        int edgeCount = 0;
+        for (int state = 0; state < stateCount; state++) {
+            edgeOffsets[state] = edgeCount;
+            edgeCount += children.get(state).size();
+        }
+        edgeOffsets[stateCount] = edgeCount;
+
+        char[] edgeChars = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        for (int state = 0; state < stateCount; state++) {
+            int offset = edgeOffsets[state];
+            for (Map.Entry<Character, Integer> edge : new TreeMap<>(children.get(state)).entrySet()) {
+                edgeChars[offset] = edge.getKey();
+                edgeTargets[offset] = edge.getValue();
+                offset++;
+            }
+        }
+
+        String[] terms = terminal.toArray(new String[0]);
+        int[] failure = new int[stateCount];
+        int[] dictionaryLink = new int[stateCount];
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(edgeOffsets, edgeChars, edgeTargets,
+                failure, dictionaryLink, terms, termCount);
+
+        // Breadth-first so every state's failure target is finished before its children need it
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeOffsets[ROOT]; e < edgeOffsets[ROOT + 1]; e++) {
+            queue.add(edgeTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeOffsets[state]; e < edgeOffsets[state + 1]; e++) {
+                int child = edgeTargets[e];
+                char c = edgeChars[e];
+                int fallback = failure[state];
+                int target;
+                while ((target = matcher.transition(fallback, c)) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = Math.max(target, ROOT);
+                dictionaryLink[child] = terms[failure[child]] != null ? failure[child] : dictionaryLink[failure[child]];
+                queue.add(child);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * Find the first compiled term that occurs as a whole word in the text.
+     *
+     * @param text the text to scan
+     * @return the matched term (normalized), or empty if the text is clean
+     */
+    public Optional<String> findFirst(CharSequence text) {
+        if (text == null || termCount == 0) {
+            return Optional.empty();
+        }
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = transition(state, c)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = Math.max(next, ROOT);
+
+            for (int match = terms[state] != null ? state : dictionaryLink[state]; match != ROOT; match = dictionaryLink[match]) {
+                int start = i - terms[match].length() + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    return Optional.of(terms[match]);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean matches(CharSequence text) {
+        return findFirst(text).isPresent();
+    }
+
+    /**
+     * @return the number of distinct terms compiled into this automaton
+     */
+    public int size() {
+        return termCount;
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars, edgeOffsets[state], edgeOffsets[state + 1], c);
+        return index >= 0 ? edgeTargets[index] : -1;
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static String normalize(String term) {
+        if (term == null) {
+            return "";
+        }
+        // Fold char by char so terms are normalized exactly like the scanned text
+        String trimmed = term.trim();
+        StringBuilder folded = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            folded.append(Character.toLowerCase(trimmed.charAt(i)));
+        }
+        return folded.toString();
+    }
+}
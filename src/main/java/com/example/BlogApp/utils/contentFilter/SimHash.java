@@ -0,0 +1,91 @@
+package com.example.BlogApp.utils.contentFilter;
+
+/**
+ * 64-bit SimHash fingerprints for near-duplicate text detection.
+ * <p>
+ * Text is normalized (lower-cased, punctuation dropped, whitespace collapsed) and split
+ * into overlapping character shingles. Every shingle votes on each of the 64 bits through
+ * its own hash, so texts that share most shingles end up with fingerprints that differ in
+ * only a few bits, measured with {@link #distance(long, long)}.
+ * </p>
+ */
+public final class SimHash {
+
+    private static final int SHINGLE_LENGTH = 4;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    /**
+     * @param text the text to fingerprint
+     * @return the 64-bit fingerprint; 0 for text without letters or digits
+     */
+    public static long fingerprint(CharSequence text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return 0L;
+        }
+        int[] votes = new int[Long.SIZE];
+        int shingles = Math.max(1, normalized.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            long hash = hash(normalized, start, Math.min(normalized.length(), start + SHINGLE_LENGTH));
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * @return the number of differing bits between two fingerprints
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * @return the text lower-cased, with punctuation dropped and whitespace collapsed;
+     * empty when it has no letters or digits
+     */
+    public static String normalize(CharSequence text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static long hash(String text, int from, int to) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // FNV alone leaves the high bits poorly mixed for short inputs
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
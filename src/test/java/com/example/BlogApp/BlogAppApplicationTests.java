@@ -1,13 +1,30 @@
 package com.example.BlogApp;
 
+import com.example.BlogApp.repo.ReactivePostRepo;
+import com.mongodb.reactivestreams.client.MongoClient;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 class BlogAppApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void contextLoadsWithoutReactiveDriver() {
+		assertEquals(0, context.getBeanNamesForType(MongoClient.class).length);
+		assertEquals(0, context.getBeanNamesForType(ReactiveMongoTemplate.class).length);
+		assertEquals(0, context.getBeanNamesForType(ReactivePostRepo.class).length);
+	}
+
 }
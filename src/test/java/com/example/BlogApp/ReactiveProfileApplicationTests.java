@@ -0,0 +1,28 @@
+package com.example.BlogApp;
+
+import com.example.BlogApp.controller.PostController;
+import com.example.BlogApp.controller.ReactivePostController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveProfileApplicationTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	void contextLoadsWithReactiveReadPath() {
+		assertEquals(1, context.getBeanNamesForType(ReactivePostController.class).length);
+		assertEquals(0, context.getBeanNamesForType(PostController.class).length);
+		assertEquals(1, context.getBeanNamesForType(ReactiveMongoTemplate.class).length);
+	}
+
+}
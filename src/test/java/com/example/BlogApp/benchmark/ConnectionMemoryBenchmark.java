@@ -0,0 +1,135 @@
+package com.example.BlogApp.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the server memory and threads held per 10k concurrent connections, for comparing
+ * the servlet stack with the reactive read path.
+ * <p>
+ * Each connection sends one read request and then stops reading the response, with a small
+ * receive buffer, so the server stays mid-write on every connection like it would for slow
+ * mobile clients. A blocking server parks a request thread on each stalled write, while a
+ * non-blocking one only keeps the unsent buffers. Heap and live threads are sampled from
+ * the actuator before the connections open and after they have been held for a while.
+ * </p>
+ * <p>
+ * Start the application against a seeded database with
+ * {@code MANAGEMENT_ENDPOINTS_WEB_EXPOSURE_INCLUDE=health,metrics}, once with the default
+ * profiles and once with the {@code reactive} profile added, and run the {@link #main}
+ * method from the test classpath against each. Raise the client's open-file limit first.
+ * System properties: {@code benchmark.url} (default: a 1000-post feed page),
+ * {@code benchmark.token} (a JWT, required), {@code benchmark.connections} (default 10000),
+ * {@code benchmark.holdSeconds} (default 15) and {@code benchmark.receiveBuffer} (bytes,
+ * default 4096).
+ * </p>
+ */
+public class ConnectionMemoryBenchmark {
+
+    private static final Pattern VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    private final URI url;
+    private final String token;
+    private final HttpClient metricsClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private ConnectionMemoryBenchmark(URI url, String token) {
+        this.url = url;
+        this.token = token;
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI url = URI.create(System.getProperty("benchmark.url", "http://localhost:8080/api/posts?page=0&size=1000"));
+        String token = System.getProperty("benchmark.token");
+        if (token == null) {
+            throw new IllegalArgumentException("benchmark.token is required");
+        }
+        int connections = Integer.getInteger("benchmark.connections", 10_000);
+        Duration hold = Duration.ofSeconds(Long.getLong("benchmark.holdSeconds", 15));
+        int receiveBuffer = Integer.getInteger("benchmark.receiveBuffer", 4096);
+
+        ConnectionMemoryBenchmark benchmark = new ConnectionMemoryBenchmark(url, token);
+        Sample before = benchmark.sample();
+
+        List<Socket> open = new ArrayList<>(connections);
+        int failed = 0;
+        try {
+            for (int i = 0; i < connections; i++) {
+                try {
+                    open.add(benchmark.openStalled(receiveBuffer));
+                } catch (IOException e) {
+                    failed++;
+                }
+            }
+            Thread.sleep(hold.toMillis());
+            Sample held = benchmark.sample();
+
+            double per10k = 10_000.0 / Math.max(1, open.size());
+            System.out.printf("Connections held: %d (failed to open: %d)%n", open.size(), failed);
+            System.out.printf("Heap used:    %8.1f MB -> %8.1f MB (%+.1f MB per 10k connections)%n",
+                    before.heapBytes() / 1e6, held.heapBytes() / 1e6, (held.heapBytes() - before.heapBytes()) / 1e6 * per10k);
+            System.out.printf("Non-heap:     %8.1f MB -> %8.1f MB (%+.1f MB per 10k connections)%n",
+                    before.nonHeapBytes() / 1e6, held.nonHeapBytes() / 1e6, (held.nonHeapBytes() - before.nonHeapBytes()) / 1e6 * per10k);
+            System.out.printf("Live threads: %8.0f    -> %8.0f    (%+.0f per 10k connections)%n",
+                    before.threads(), held.threads(), (held.threads() - before.threads()) * per10k);
+        } finally {
+            for (Socket socket : open) {
+                socket.close();
+            }
+        }
+    }
+
+    /**
+     * Open a connection, send the request and never read the response.
+     */
+    private Socket openStalled(int receiveBuffer) throws IOException {
+        Socket socket = new Socket();
+        // Set before connecting so the advertised TCP window is small from the start
+        socket.setReceiveBufferSize(receiveBuffer);
+        socket.connect(new InetSocketAddress(url.getHost(), url.getPort()), 5_000);
+        String request = "GET " + url.getRawPath() + (url.getRawQuery() != null ? "?" + url.getRawQuery() : "") + " HTTP/1.1\r\n"
+                + "Host: " + url.getHost() + ":" + url.getPort() + "\r\n"
+                + "Authorization: Bearer " + token + "\r\n"
+                + "Accept: application/json\r\n"
+                + "\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(request.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private Sample sample() throws IOException, InterruptedException {
+        return new Sample(
+                metric("jvm.memory.used?tag=area:heap"),
+                metric("jvm.memory.used?tag=area:nonheap"),
+                metric("jvm.threads.live"));
+    }
+
+    private double metric(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url.resolve("/actuator/metrics/" + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<String> response = metricsClient.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = VALUE.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Cannot read " + path + ": HTTP " + response.statusCode());
+        }
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private record Sample(double heapBytes, double nonHeapBytes, double threads) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.BlogApp.benchmark;
+
+import com.example.BlogApp.utils.contentFilter.AhoCorasickMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled Aho-Corasick filter against a per-term {@code contains} loop
+ * with a 10k-term word list on comment-sized and post-sized texts.
+ * <p>
+ * Run with {@code mvn test-compile} and then the {@link #main} method from the test classpath.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentFilterBenchmark {
+
+    @Param({"10000"})
+    private int termCount;
+
+    @Param({"280", "8000"})
+    private int textLength;
+
+    private List<String> terms;
+    private AhoCorasickMatcher matcher;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        terms = new ArrayList<>(termCount);
+        for (int i = 0; i < termCount; i++) {
+            terms.add(randomWord(random, 5 + random.nextInt(8)));
+        }
+        matcher = AhoCorasickMatcher.compile(terms);
+
+        // Clean text is the worst case for both approaches: every term must be ruled out
+        StringBuilder builder = new StringBuilder(textLength);
+        while (builder.length() < textLength) {
+            builder.append(randomWord(random, 3 + random.nextInt(6))).append(' ');
+        }
+        text = builder.substring(0, textLength);
+    }
+
+    @Benchmark
+    public boolean ahoCorasick() {
+        return matcher.matches(text);
+    }
+
+    @Benchmark
+    public boolean naiveContains() {
+        String lower = text.toLowerCase();
+        for (String term : terms) {
+            if (lower.contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public AhoCorasickMatcher compile() {
+        return AhoCorasickMatcher.compile(terms);
+    }
+
+    private static String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContentFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.BlogApp.benchmark;
+
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.repo.codec.EntityCodecs;
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written entity codecs against {@code MappingMongoConverter} for one
+ * document at a time, from and to raw BSON bytes as exchanged with the driver. The
+ * converter path includes the intermediate {@link Document} it needs on the way.
+ * <p>
+ * Run with {@code mvn test-compile} and then the {@link #main} method from the test classpath;
+ * the GC profiler reports allocations per document as {@code gc.alloc.rate.norm}.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityCodecBenchmark {
+
+    @Param({"post", "comment", "user"})
+    private String entity;
+
+    private Object instance;
+    private Class<Object> type;
+    private byte[] bytes;
+    private Codec<Object> codec;
+    private Codec<Document> documentCodec;
+    private MappingMongoConverter converter;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        instance = switch (entity) {
+            case "post" -> samplePost();
+            case "comment" -> sampleComment();
+            case "user" -> sampleUser();
+            default -> throw new IllegalArgumentException("Unknown entity: " + entity);
+        };
+        type = (Class<Object>) instance.getClass();
+        codec = EntityCodecs.registry().get(type);
+
+        CodecRegistry driverRegistry = CodecRegistries.withUuidRepresentation(
+                MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.STANDARD);
+        documentCodec = driverRegistry.get(Document.class);
+        // Configured as Spring Boot configures the application's converter
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        bytes = codecEncode();
+    }
+
+    @Benchmark
+    public Object codecDecode() {
+        return codec.decode(reader(), DecoderContext.builder().build());
+    }
+
+    @Benchmark
+    public Object converterDecode() {
+        Document document = documentCodec.decode(reader(), DecoderContext.builder().build());
+        return converter.read(type, document);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(bytes == null ? 512 : bytes.length);
+        codec.encode(new BsonBinaryWriter(buffer), instance, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] converterEncode() {
+        Document document = new Document();
+        converter.write(instance, document);
+        BasicOutputBuffer buffer = new BasicOutputBuffer(bytes.length);
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private BsonBinaryReader reader() {
+        return new BsonBinaryReader(ByteBuffer.wrap(bytes));
+    }
+
+    private static Post samplePost() {
+        Post post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setTitle("Benchmarking BSON codecs");
+        post.setContent("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(40));
+        post.setAuthorId(UUID.randomUUID());
+        post.setTags(List.of("java", "mongodb", "performance"));
+        post.setViews(1234);
+        post.setPublished(true);
+        post.setCreatedAt(Instant.now());
+        post.setUpdatedAt(Instant.now());
+        return post;
+    }
+
+    private static Comment sampleComment() {
+        Comment comment = new Comment();
+        comment.setId(UUID.randomUUID());
+        comment.setContent("Great post, thanks for sharing the numbers!");
+        comment.setAuthorId(UUID.randomUUID());
+        comment.setPostId(UUID.randomUUID());
+        comment.setCreatedAt(Instant.now());
+        comment.setUpdatedAt(Instant.now());
+        return comment;
+    }
+
+    private static User sampleUser() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark_user");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUV");
+        user.setRoles(Set.of("USER"));
+        user.setCreatedAt(Instant.now());
+        user.setUpdatedAt(Instant.now());
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
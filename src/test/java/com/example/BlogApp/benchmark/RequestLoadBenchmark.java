@@ -0,0 +1,118 @@
+package com.example.BlogApp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Finds the highest request rate a running instance sustains while keeping p99 latency
+ * under a target, for comparing platform-thread and virtual-thread request handling.
+ * <p>
+ * Load is open-model: requests are sent on a fixed schedule whether or not earlier ones
+ * have completed, and latency is measured from each request's scheduled start, so a
+ * saturated server shows up as queueing delay instead of a slower send rate. The rate
+ * grows step by step until p99 exceeds the target or more than 1% of requests fail.
+ * </p>
+ * <p>
+ * Start the application against a seeded database once with
+ * {@code SPRING_THREADS_VIRTUAL_ENABLED=false} and once with {@code true}, then run the
+ * {@link #main} method from the test classpath against each. System properties:
+ * {@code benchmark.url} (default: the first feed page), {@code benchmark.token} (a JWT),
+ * {@code benchmark.p99} (ms, default 100), {@code benchmark.startRps} (default 100),
+ * {@code benchmark.stepRps} (default 100), {@code benchmark.maxRps} (default 20000) and
+ * {@code benchmark.stepSeconds} (default 10).
+ * </p>
+ */
+public class RequestLoadBenchmark {
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    private final HttpClient client;
+    private final HttpRequest request;
+
+    private RequestLoadBenchmark(HttpClient client, HttpRequest request) {
+        this.client = client;
+        this.request = request;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        URI url = URI.create(System.getProperty("benchmark.url", "http://localhost:8080/api/posts?page=0&size=10"));
+        String token = System.getProperty("benchmark.token");
+        Duration p99Target = Duration.ofMillis(Long.getLong("benchmark.p99", 100));
+        int startRps = Integer.getInteger("benchmark.startRps", 100);
+        int stepRps = Integer.getInteger("benchmark.stepRps", 100);
+        int maxRps = Integer.getInteger("benchmark.maxRps", 20_000);
+        Duration step = Duration.ofSeconds(Long.getLong("benchmark.stepSeconds", 10));
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(10)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            RequestLoadBenchmark benchmark = new RequestLoadBenchmark(client, request.build());
+
+            // A short warm-up so JIT compilation and connection setup do not count against the first step
+            benchmark.runStep(startRps, Duration.ofSeconds(5));
+
+            int sustained = 0;
+            for (int rps = startRps; rps <= maxRps; rps += stepRps) {
+                StepResult result = benchmark.runStep(rps, step);
+                System.out.printf("%6d rps: p50 %4d ms, p99 %5d ms, errors %.2f%%%n",
+                        rps, result.p50().toMillis(), result.p99().toMillis(), result.errorRate() * 100);
+                if (result.p99().compareTo(p99Target) > 0 || result.errorRate() > MAX_ERROR_RATE) {
+                    break;
+                }
+                sustained = rps;
+            }
+            System.out.printf("Max sustained rate at p99 <= %d ms: %d rps%n", p99Target.toMillis(), sustained);
+        }
+    }
+
+    private StepResult runStep(int rps, Duration duration) throws InterruptedException {
+        int total = (int) (rps * duration.toSeconds());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long[] latencies = new long[total];
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = i;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                latencies[index] = System.nanoTime() - scheduled;
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+
+        Arrays.sort(latencies);
+        return new StepResult(
+                Duration.ofNanos(latencies[(int) (total * 0.50)]),
+                Duration.ofNanos(latencies[Math.min(total - 1, (int) Math.ceil(total * 0.99) - 1)]),
+                errors.get() / (double) total);
+    }
+
+    private record StepResult(Duration p50, Duration p99, double errorRate) {
+    }
+}
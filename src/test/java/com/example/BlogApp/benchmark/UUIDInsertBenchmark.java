@@ -0,0 +1,90 @@
+package com.example.BlogApp.benchmark;
+
+import com.example.BlogApp.utils.UUIDGenerator.UUIDv7Generator;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput into a UUID {@code _id} index with random version 4 ids against
+ * time-ordered version 7 ids, plus the raw cost of generating each kind.
+ * <p>
+ * The insert benchmarks need a MongoDB at {@code -Dbenchmark.mongo.uri} (default
+ * {@code mongodb://localhost:27017}). The gap grows once the {@code _id} index outgrows the
+ * WiredTiger cache, so run with enough iterations to load a few million documents.
+ * Run with {@code mvn test-compile} and then the {@link #main} method from the test classpath.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UUIDInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"v4", "v7"})
+    private String idVersion;
+
+    private MongoClient client;
+    private MongoCollection<Document> collection;
+    private Supplier<UUID> ids;
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(System.getProperty("benchmark.mongo.uri", "mongodb://localhost:27017")))
+                .uuidRepresentation(UuidRepresentation.STANDARD)
+                .build());
+        collection = client.getDatabase("uuid_benchmark").getCollection("inserts_" + idVersion);
+        collection.drop();
+        ids = idVersion.equals("v7") ? UUIDv7Generator.shared()::next : UUID::randomUUID;
+        payload = "x".repeat(200);
+    }
+
+    @TearDown
+    public void tearDown() {
+        collection.drop();
+        client.close();
+    }
+
+    /** Each operation inserts {@value #BATCH_SIZE} comment-sized documents with one insertMany. */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertMany() {
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Document("_id", ids.get()).append("content", payload));
+        }
+        collection.insertMany(batch, new InsertManyOptions().ordered(false));
+    }
+
+    @Benchmark
+    public UUID generate() {
+        return ids.get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UUIDInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.BlogApp.config;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MongoCommandMetrics and MongoCommandRouteFilter
+ * Tests reply size meters per command and collection, and command counts per route
+ */
+class MongoCommandMetricsTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SimpleMeterRegistry meterRegistry;
+    private MongoCommandMetricsProperties properties;
+    private MongoCommandMetrics commandMetrics;
+    private int requestId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MongoCommandMetricsProperties();
+        commandMetrics = new MongoCommandMetrics(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testCommandSucceeded_RecordsReplySizeByCollection() {
+        // Arrange
+        BsonDocument reply = new BsonDocument("cursor", new BsonDocument("firstBatch", new BsonArray()).append("id", new BsonInt64(0)));
+        RawBsonDocument rawReply = new RawBsonDocument(reply, new BsonDocumentCodec());
+
+        // Act
+        run("find", new BsonDocument("find", new BsonString("posts")), rawReply, 3);
+
+        // Assert
+        DistributionSummary replySize = meterRegistry.get("mongodb.commands.reply.size")
+                .tags("command", "find", "collection", "posts").summary();
+        assertEquals(rawReply.getByteBuffer().remaining(), replySize.totalAmount(), 0.001);
+        // Latency is Boot's mongodb.driver.commands timer; no second timer is registered here
+        assertTrue(meterRegistry.find("mongodb.commands").timers().isEmpty());
+    }
+
+    @Test
+    void testCommandFailed_RecordsNoReplySize() {
+        // Arrange
+        int id = ++requestId;
+        commandMetrics.commandStarted(new CommandStartedEvent(null, id, id, CONNECTION, "BlogApp", "aggregate",
+                new BsonDocument("aggregate", new BsonString("comments"))));
+
+        // Act
+        commandMetrics.commandFailed(new CommandFailedEvent(null, id, id, CONNECTION, "BlogApp", "aggregate",
+                TimeUnit.MILLISECONDS.toNanos(5), new MongoException("boom")));
+
+        // Assert
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    void testCollection_GetMoreUsesCollectionField() {
+        BsonDocument getMore = new BsonDocument("getMore", new BsonInt64(42)).append("collection", new BsonString("users"));
+
+        assertEquals("users", MongoCommandMetrics.collection("getMore", getMore));
+        assertEquals("none", MongoCommandMetrics.collection("ping", new BsonDocument("ping", new BsonInt64(1))));
+    }
+
+    @Test
+    void testSizeInBytes_MatchesEncodedSize() {
+        BsonDocument document = new BsonDocument("ok", new BsonInt64(1)).append("note", new BsonString("hello"));
+
+        assertEquals(new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().remaining(),
+                MongoCommandMetrics.sizeInBytes(document));
+    }
+
+    @Test
+    void testRouteFilter_CountsCommandsPerRoute() throws Exception {
+        // Arrange
+        MongoCommandRouteFilter filter = new MongoCommandRouteFilter(commandMetrics);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(req));
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts");
+                run("find", new BsonDocument("find", new BsonString("posts")), new BsonDocument("ok", new BsonInt64(1)), 1);
+                run("find", new BsonDocument("find", new BsonString("users")), new BsonDocument("ok", new BsonInt64(1)), 1);
+                run("count", new BsonDocument("count", new BsonString("posts")), new BsonDocument("ok", new BsonInt64(1)), 1);
+            }
+        });
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        DistributionSummary finds = meterRegistry.get("mongodb.commands.per.request")
+                .tags("method", "GET", "uri", "/api/posts", "command", "find").summary();
+        assertEquals(1, finds.count());
+        assertEquals(2, finds.totalAmount(), 0.001);
+        assertEquals(1, meterRegistry.get("mongodb.commands.per.request")
+                .tags("command", "count").summary().totalAmount(), 0.001);
+    }
+
+    @Test
+    void testCommandStarted_OutsideRequest_OnlyRecordsCommandMeters() {
+        // Act
+        run("find", new BsonDocument("find", new BsonString("posts")), new BsonDocument("ok", new BsonInt64(1)), 1);
+
+        // Assert
+        assertTrue(meterRegistry.find("mongodb.commands.per.request").meters().isEmpty());
+        assertEquals(1, meterRegistry.get("mongodb.commands.reply.size").summary().count());
+    }
+
+    private void run(String commandName, BsonDocument command, BsonDocument reply, long millis) {
+        int id = ++requestId;
+        commandMetrics.commandStarted(new CommandStartedEvent(null, id, id, CONNECTION, "BlogApp", commandName, command));
+        commandMetrics.commandSucceeded(new CommandSucceededEvent(null, id, id, CONNECTION, "BlogApp", commandName,
+                reply, TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+}
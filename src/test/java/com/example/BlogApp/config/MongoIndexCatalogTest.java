@@ -0,0 +1,154 @@
+package com.example.BlogApp.config;
+
+import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.PostRepo;
+import com.example.BlogApp.repo.UserRepo;
+import org.bson.Document;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MongoIndexCatalog
+ * Tests that every derived query in PostRepo, CommentRepo and UserRepo has a catalog index that can serve it
+ * <p>
+ * Runs without a database, so it guards the catalog in every build. It checks the static shape of
+ * each query: a leading index key bound by an equality predicate (or the sort itself), the static
+ * sort right after the equality prefix, a partial filter the query implies, and the same collation.
+ * QueryPlanTest remains the end-to-end check of real winning plans where Docker is available.
+ * </p>
+ */
+class MongoIndexCatalogTest {
+
+    private static final Set<Part.Type> EQUALITY = Set.of(Part.Type.SIMPLE_PROPERTY, Part.Type.TRUE, Part.Type.FALSE, Part.Type.IN);
+
+    /** Queries that cannot be served by an index, with the reason. */
+    private static final Map<String, String> EXEMPT = Map.of(
+            "PostRepo.findByTitleContainingOrContentContaining",
+            "unanchored substring match over free text; no B-tree index can bound it");
+
+    private static final MongoMappingContext mappingContext = new MongoMappingContext();
+
+    static {
+        // Registers Instant and the other JSR-310 types as simple values rather than entities
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+    }
+
+    @TestFactory
+    Stream<DynamicTest> testDerivedQueriesHaveServingIndex() {
+        return Stream.of(PostRepo.class, CommentRepo.class, UserRepo.class)
+                .flatMap(repo -> Arrays.stream(repo.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                        .map(method -> {
+                            String name = repo.getSimpleName() + "." + method.getName();
+                            return DynamicTest.dynamicTest(name, () -> {
+                                if (!EXEMPT.containsKey(name)) {
+                                    assertServed(repo, method);
+                                }
+                            });
+                        }));
+    }
+
+    private static void assertServed(Class<?> repo, Method method) {
+        Class<?> domainType = AbstractRepositoryMetadata.getMetadata(repo).getDomainType();
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainType);
+        PartTree tree = new PartTree(method.getName(), domainType);
+        List<Index> indexes = new ArrayList<>(MongoIndexCatalog.indexes().getOrDefault(entity.getCollection(), List.of()));
+        indexes.add(new Index().on("_id", Sort.Direction.ASC).named("_id_"));
+
+        org.springframework.data.mongodb.core.annotation.Collation annotation =
+                method.getAnnotation(org.springframework.data.mongodb.core.annotation.Collation.class);
+        Document collation = annotation != null ? Collation.parse(annotation.value()).toDocument() : null;
+        List<Sort.Order> sort = tree.getSort().toList().stream()
+                .map(order -> order.withProperty(fieldName(entity, order.getProperty())))
+                .toList();
+
+        for (PartTree.OrPart branch : tree) {
+            Set<String> equalities = new HashSet<>();
+            Map<String, Part.Type> types = new HashMap<>();
+            for (Part part : branch) {
+                String field = fieldName(entity, part.getProperty().toDotPath());
+                types.put(field, part.getType());
+                if (EQUALITY.contains(part.getType())) {
+                    equalities.add(field);
+                }
+            }
+            boolean served = indexes.stream().anyMatch(index -> serves(index, equalities, types, sort, collation));
+            assertTrue(served, method.getName() + ": no catalog index serves " + branch + " sorted by " + sort
+                    + " in '" + entity.getCollection() + "'");
+        }
+    }
+
+    private static boolean serves(Index index, Set<String> equalities, Map<String, Part.Type> types,
+                                  List<Sort.Order> sort, Document collation) {
+        Document options = index.getIndexOptions();
+        if (!Objects.equals(options.get("collation", Document.class), collation)) {
+            return false;
+        }
+        Document filter = options.get("partialFilterExpression", Document.class);
+        if (filter != null && !filter.entrySet().stream().allMatch(condition ->
+                condition.getValue() instanceof Boolean value
+                        && types.get(condition.getKey()) == (value ? Part.Type.TRUE : Part.Type.FALSE))) {
+            return false;
+        }
+
+        List<Map.Entry<String, Object>> keys = List.copyOf(index.getIndexKeys().entrySet());
+        int prefix = 0;
+        while (prefix < keys.size() && equalities.contains(keys.get(prefix).getKey())) {
+            prefix++;
+        }
+        if (!sort.isEmpty() && !sortFollows(keys, prefix, sort)) {
+            return false;
+        }
+        // Bounded either by an equality on the leading key or, for a pure sort, by walking the index in order
+        return prefix > 0 || !sort.isEmpty();
+    }
+
+    private static boolean sortFollows(List<Map.Entry<String, Object>> keys, int from, List<Sort.Order> sort) {
+        if (keys.size() < from + sort.size()) {
+            return false;
+        }
+        // The index can be walked backwards, so all directions reversed also works
+        Boolean reversed = null;
+        for (int i = 0; i < sort.size(); i++) {
+            Map.Entry<String, Object> key = keys.get(from + i);
+            Sort.Order order = sort.get(i);
+            if (!key.getKey().equals(order.getProperty())) {
+                return false;
+            }
+            boolean ascending = ((Number) key.getValue()).intValue() > 0;
+            boolean flip = ascending != order.isAscending();
+            if (reversed != null && reversed != flip) {
+                return false;
+            }
+            reversed = flip;
+        }
+        return true;
+    }
+
+    private static String fieldName(MongoPersistentEntity<?> entity, String property) {
+        return entity.getRequiredPersistentProperty(property).getFieldName();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.BlogApp.config;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Collation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MongoIndexesCreator
+ * Tests drift detection between catalog entries and listIndexes output, and that rebuilds never drop a constraint first
+ */
+@ExtendWith(MockitoExtension.class)
+class MongoIndexesCreatorTest {
+
+    private static final Index USERNAME = new Index().on("username", Sort.Direction.ASC).unique()
+            .collation(Collation.of("en").strength(2)).named("username_1");
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOps;
+
+    private MongoIndexProperties properties;
+    private MongoIndexesCreator creator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MongoIndexProperties();
+        creator = new MongoIndexesCreator(mongoTemplate, properties);
+    }
+
+    @Test
+    void testDrift_MatchingIndex_NoDrift() {
+        // Arrange
+        Index declared = new Index().on("username", Sort.Direction.ASC).unique()
+                .collation(Collation.of("en").strength(2)).named("username_1");
+        Document existing = new Document("v", 2)
+                .append("key", new Document("username", 1.0))
+                .append("name", "username_1")
+                .append("unique", true)
+                .append("collation", new Document("locale", "en").append("caseLevel", false).append("strength", 2));
+
+        // Act & Assert
+        assertEquals(List.of(), MongoIndexesCreator.drift(declared, existing));
+    }
+
+    @Test
+    void testDrift_MissingCollation_Reported() {
+        // Arrange
+        Index declared = new Index().on("email", Sort.Direction.ASC).unique()
+                .collation(Collation.of("en").strength(2)).named("email_1");
+        Document existing = new Document("key", new Document("email", 1))
+                .append("name", "email_1")
+                .append("unique", true);
+
+        // Act & Assert
+        assertEquals(List.of("collation"), MongoIndexesCreator.drift(declared, existing));
+    }
+
+    @Test
+    void testDrift_CompoundKeyOrder_Reported() {
+        // Arrange
+        Index declared = new Index().on("authorId", Sort.Direction.ASC).on("published", Sort.Direction.ASC)
+                .named("authorId_1_published_1");
+        Document existing = new Document("key", new Document("published", 1).append("authorId", 1))
+                .append("name", "authorId_1_published_1")
+                .append("unique", true);
+
+        // Act & Assert
+        assertEquals(List.of("key", "unique"), MongoIndexesCreator.drift(declared, existing));
+    }
+
+    @Test
+    void testCatalog_NamesMatchServerDefaults() {
+        Index index = MongoIndexCatalog.indexes().get("posts").getFirst();
+
+        assertEquals("authorId_1_published_1", index.getIndexOptions().getString("name"));
+    }
+
+    @Test
+    void testApply_DriftedUniqueIndex_BridgesBeforeDropping() {
+        // Arrange: case-sensitive index from before the collation was declared
+        Map<String, Document> existing = existing(new Document("key", new Document("username", 1))
+                .append("name", "username_1")
+                .append("unique", true));
+
+        // Act
+        creator.apply("users", List.of(USERNAME), existing, indexOps);
+
+        // Assert
+        InOrder inOrder = inOrder(indexOps);
+        inOrder.verify(indexOps).createIndex(argThat(named("username_1_rebuild")));
+        inOrder.verify(indexOps).dropIndex("username_1");
+        inOrder.verify(indexOps).createIndex(USERNAME);
+        inOrder.verify(indexOps).dropIndex("username_1_rebuild");
+    }
+
+    @Test
+    void testApply_BridgeCannotBeBuilt_KeepsOldIndex() {
+        // Arrange: e.g. case-only duplicate usernames violate the new collation
+        Map<String, Document> existing = existing(new Document("key", new Document("username", 1))
+                .append("name", "username_1")
+                .append("unique", true));
+        when(indexOps.createIndex(argThat(named("username_1_rebuild")))).thenThrow(new RuntimeException("E11000 duplicate key"));
+
+        // Act
+        creator.apply("users", List.of(USERNAME), existing, indexOps);
+
+        // Assert
+        verify(indexOps, never()).dropIndex(any(String.class));
+        verify(indexOps, never()).createIndex(USERNAME);
+    }
+
+    @Test
+    void testApply_BridgeLeftByInterruptedRebuild_DroppedOnceIndexExists() {
+        // Arrange: the old index was dropped but the catalog index never created
+        Map<String, Document> existing = existing(new Document("key", new Document("username", 1))
+                .append("name", "username_1_rebuild")
+                .append("unique", true));
+
+        // Act
+        creator.apply("users", List.of(USERNAME), existing, indexOps);
+
+        // Assert
+        InOrder inOrder = inOrder(indexOps);
+        inOrder.verify(indexOps).createIndex(USERNAME);
+        inOrder.verify(indexOps).dropIndex("username_1_rebuild");
+    }
+
+    @Test
+    void testApply_DropUnknown_KeepsUniqueIndexTheCatalogDoesNotEnforce() {
+        // Arrange
+        properties.setDropUnknown(true);
+        Map<String, Document> existing = existing(
+                new Document("key", new Document("username", 1)).append("name", "username_1").append("unique", true)
+                        .append("collation", new Document("locale", "en").append("strength", 2)),
+                new Document("key", new Document("email", 1)).append("name", "email_unique").append("unique", true),
+                new Document("key", new Document("legacy", 1)).append("name", "legacy_1"));
+
+        // Act
+        creator.apply("users", List.of(USERNAME), existing, indexOps);
+
+        // Assert
+        verify(indexOps).dropIndex("legacy_1");
+        verify(indexOps, never()).dropIndex("email_unique");
+    }
+
+    @Test
+    void testApply_DropUnknown_DropsUniqueIndexSubsumedByCatalog() {
+        // Arrange: a case-sensitive copy under another name; the collated catalog index is stricter
+        properties.setDropUnknown(true);
+        Map<String, Document> existing = existing(
+                new Document("key", new Document("username", 1)).append("name", "username_1").append("unique", true)
+                        .append("collation", new Document("locale", "en").append("strength", 2)),
+                new Document("key", new Document("username", 1)).append("name", "username_cs").append("unique", true));
+
+        // Act
+        creator.apply("users", List.of(USERNAME), existing, indexOps);
+
+        // Assert
+        verify(indexOps).dropIndex("username_cs");
+    }
+
+    @Test
+    void testApply_DropUnknown_CatalogIndexNotBuilt_KeepsUniqueIndex() {
+        // Arrange
+        properties.setDropUnknown(true);
+        Map<String, Document> existing = existing(
+                new Document("key", new Document("username", 1)).append("name", "username_cs").append("unique", true));
+        when(indexOps.createIndex(USERNAME)).thenThrow(new RuntimeException("E11000 duplicate key"));
+
+        // Act
+        creator.apply("users", List.of(USERNAME), existing, indexOps);
+
+        // Assert
+        verify(indexOps, never()).dropIndex(any(String.class));
+    }
+
+    @Test
+    void testBridge_CoversEveryDocumentUnderTemporaryName() {
+        // Arrange
+        Index feed = MongoIndexCatalog.indexes().get("posts").get(1);
+
+        // Act
+        IndexDefinition bridge = MongoIndexesCreator.bridge(feed);
+
+        // Assert
+        assertEquals(feed.getIndexKeys(), bridge.getIndexKeys());
+        assertEquals("createdAt_-1_rebuild", bridge.getIndexOptions().getString("name"));
+        assertEquals(new Document("published", true).append("_id", new Document("$exists", true)),
+                bridge.getIndexOptions().get("partialFilterExpression"));
+        assertEquals(USERNAME.getIndexOptions().get("collation"),
+                MongoIndexesCreator.bridge(USERNAME).getIndexOptions().get("collation"));
+    }
+
+    private static Map<String, Document> existing(Document... indexes) {
+        Map<String, Document> existing = new LinkedHashMap<>();
+        for (Document index : indexes) {
+            existing.put(index.getString("name"), index);
+        }
+        return existing;
+    }
+
+    private static ArgumentMatcher<IndexDefinition> named(String name) {
+        return definition -> definition != null && name.equals(definition.getIndexOptions().getString("name"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.BlogApp.config;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SlowQueryEndpoint
+ * Tests grouping of the slow query log into top offenders and the limit bounds
+ */
+@ExtendWith(MockitoExtension.class)
+class SlowQueryEndpointTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private SlowQueryProperties properties;
+    private SlowQueryEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SlowQueryProperties();
+        endpoint = new SlowQueryEndpoint(mongoTemplate, properties);
+    }
+
+    @Test
+    void testTopOffenders_MapsGroupsInOrder() {
+        // Arrange
+        Instant lastSeen = Instant.parse("2024-01-01T00:00:00Z");
+        Document group = new Document("_id", new Document("command", "find").append("collection", "posts")
+                .append("shape", new Document("find", "posts").append("filter", new Document("authorId", "?"))))
+                .append("count", 4)
+                .append("totalMillis", 900.5)
+                .append("maxMillis", 400.0)
+                .append("avgDocsExamined", 1200.0)
+                .append("avgDocsReturned", 10.0)
+                .append("planSummary", "COLLSCAN")
+                .append("lastSeen", Date.from(lastSeen));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(SlowQueryRecorder.COLLECTION), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(group), new Document()));
+
+        // Act
+        List<SlowQueryEndpoint.Offender> offenders = endpoint.topOffenders(5);
+
+        // Assert
+        assertEquals(1, offenders.size());
+        SlowQueryEndpoint.Offender offender = offenders.getFirst();
+        assertEquals("find", offender.command());
+        assertEquals("posts", offender.collection());
+        assertEquals(4, offender.count());
+        assertEquals(900.5, offender.totalMillis(), 0.001);
+        assertEquals("COLLSCAN", offender.planSummary());
+        assertEquals(lastSeen, offender.lastSeen());
+    }
+
+    @Test
+    void testTopOffenders_DefaultLimitFromProperties() {
+        // Arrange
+        properties.setTop(3);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(SlowQueryRecorder.COLLECTION), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        // Act
+        endpoint.topOffenders(null);
+
+        // Assert
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(SlowQueryRecorder.COLLECTION), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(new Document("$limit", 3L), pipeline.getLast());
+        assertEquals(new Document("totalMillis", -1), pipeline.get(1).get("$sort"));
+    }
+
+    @Test
+    void testTopOffenders_LimitClampedToOneThroughTop() {
+        // Arrange
+        properties.setTop(3);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(SlowQueryRecorder.COLLECTION), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        // Act
+        endpoint.topOffenders(0);
+        endpoint.topOffenders(-5);
+        endpoint.topOffenders(2);
+        endpoint.topOffenders(1000);
+
+        // Assert
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate, times(4)).aggregate(aggregation.capture(), eq(SlowQueryRecorder.COLLECTION), eq(Document.class));
+        List<Object> limits = aggregation.getAllValues().stream()
+                .map(captured -> captured.toPipeline(Aggregation.DEFAULT_CONTEXT).getLast().get("$limit"))
+                .toList();
+        assertEquals(List.of(1L, 1L, 2L, 3L), limits);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.BlogApp.config;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SlowQueryRecorder
+ * Tests shape redaction, the threshold, sampling, explain capture and result parsing; entries are written inline
+ */
+@ExtendWith(MockitoExtension.class)
+class SlowQueryRecorderTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    @Mock
+    private MongoDatabase database;
+
+    private SlowQueryProperties properties;
+    private SlowQueryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(100));
+        properties.setSampleRate(1.0);
+        recorder = new SlowQueryRecorder(properties, () -> mongoTemplate, Runnable::run);
+    }
+
+    @Test
+    void testShape_RedactsLiteralsAndKeepsStructure() {
+        // Arrange
+        BsonDocument command = new BsonDocument("find", new BsonString("posts"))
+                .append("filter", new BsonDocument("authorId", new BsonBinary(UUID.randomUUID()))
+                        .append("tags", new BsonDocument("$in", new BsonArray(List.of(new BsonString("java"), new BsonString("mongo"))))))
+                .append("sort", new BsonDocument("createdAt", new BsonInt32(-1)))
+                .append("limit", new BsonInt32(10));
+
+        // Act
+        BsonDocument shape = SlowQueryRecorder.shape(command);
+
+        // Assert
+        assertEquals("posts", shape.getString("find").getValue());
+        assertEquals("?", shape.getDocument("filter").getString("authorId").getValue());
+        assertEquals(new BsonArray(List.of(new BsonString("?"))), shape.getDocument("filter").getDocument("tags").getArray("$in"));
+        assertEquals(-1, shape.getDocument("sort").getInt32("createdAt").getValue());
+        assertEquals("?", shape.getString("limit").getValue());
+    }
+
+    @Test
+    void testCommandSucceeded_BelowThreshold_NotRecorded() {
+        // Act
+        run(find(), cursorReply(3), 20);
+
+        // Assert
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testCommandSucceeded_Slow_RecordsRedactedShapeWithExplain() {
+        // Arrange
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getMongoDatabase("BlogApp")).thenReturn(database);
+        Document explain = new Document("queryPlanner", new Document("winningPlan",
+                new Document("stage", "FETCH").append("inputStage", new Document("stage", "IXSCAN").append("indexName", "authorId_1"))))
+                .append("executionStats", new Document("totalDocsExamined", 40).append("totalKeysExamined", 40).append("nReturned", 3));
+        when(database.runCommand(any(Bson.class))).thenReturn(explain);
+
+        // Act
+        run(find(), cursorReply(3), 250);
+
+        // Assert
+        ArgumentCaptor<Bson> explainCommand = ArgumentCaptor.forClass(Bson.class);
+        verify(database).runCommand(explainCommand.capture());
+        Document sent = (Document) explainCommand.getValue();
+        BsonDocument explained = (BsonDocument) sent.get("explain");
+        assertFalse(explained.containsKey("lsid"));
+        assertFalse(explained.containsKey("$db"));
+        assertEquals("executionStats", sent.getString("verbosity"));
+
+        ArgumentCaptor<Document> entry = ArgumentCaptor.forClass(Document.class);
+        verify(mongoTemplate).insert(entry.capture(), eq(SlowQueryRecorder.COLLECTION));
+        Document logged = entry.getValue();
+        assertEquals("find", logged.getString("command"));
+        assertEquals("posts", logged.getString("collection"));
+        assertEquals("?", logged.get("shape", Document.class).get("filter", Document.class).get("authorId"));
+        assertEquals(250.0, logged.getDouble("durationMillis"), 0.001);
+        assertEquals(3L, logged.get("docsReturned"));
+        assertEquals(40, logged.get("docsExamined"));
+        assertEquals("FETCH > IXSCAN authorId_1", logged.getString("planSummary"));
+    }
+
+    @Test
+    void testCommandSucceeded_ExplainFails_StillRecorded() {
+        // Arrange
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getMongoDatabase("BlogApp")).thenReturn(database);
+        when(database.runCommand(any(Bson.class))).thenThrow(new RuntimeException("explain not allowed"));
+
+        // Act
+        run(find(), cursorReply(1), 150);
+
+        // Assert
+        ArgumentCaptor<Document> entry = ArgumentCaptor.forClass(Document.class);
+        verify(mongoTemplate).insert(entry.capture(), eq(SlowQueryRecorder.COLLECTION));
+        assertEquals("explain not allowed", entry.getValue().getString("explainError"));
+        assertNull(entry.getValue().get("docsExamined"));
+    }
+
+    @Test
+    void testCommandSucceeded_SlowButNotSampled_RecordedWithoutShapeOrExplain() {
+        // Arrange
+        properties.setSampleRate(0.0);
+
+        // Act
+        run(find(), cursorReply(2), 300);
+
+        // Assert
+        ArgumentCaptor<Document> entry = ArgumentCaptor.forClass(Document.class);
+        verify(mongoTemplate).insert(entry.capture(), eq(SlowQueryRecorder.COLLECTION));
+        verify(mongoTemplate, never()).getMongoDatabaseFactory();
+        Document logged = entry.getValue();
+        assertEquals("find", logged.getString("command"));
+        assertEquals("posts", logged.getString("collection"));
+        assertNull(logged.get("shape"));
+        assertEquals(2L, logged.get("docsReturned"));
+    }
+
+    @Test
+    void testCommandStarted_OwnCollectionAndOtherCommands_Ignored() {
+        // Act
+        run(new BsonDocument("find", new BsonString(SlowQueryRecorder.COLLECTION)), cursorReply(0), 500);
+        run(new BsonDocument("insert", new BsonString("posts")), new BsonDocument("n", new BsonInt32(1)), 500);
+
+        // Assert
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testDocsReturned_ReadsEachReplyKind() {
+        assertEquals(3L, SlowQueryRecorder.docsReturned(cursorReply(3)));
+        assertEquals(7L, SlowQueryRecorder.docsReturned(new BsonDocument("n", new BsonInt32(7))));
+        assertEquals(0L, SlowQueryRecorder.docsReturned(new BsonDocument("value", BsonNull.VALUE)));
+        assertNull(SlowQueryRecorder.docsReturned(new BsonDocument("ok", new BsonInt32(1))));
+    }
+
+    @Test
+    void testExecutionStats_AggregationReportsUnderFirstStage() {
+        Document explain = new Document("stages", List.of(
+                new Document("$cursor", new Document("executionStats", new Document("totalDocsExamined", 12))),
+                new Document("$lookup", new Document())));
+
+        assertEquals(12, SlowQueryRecorder.executionStats(explain).get("totalDocsExamined"));
+    }
+
+    @Test
+    void testPlanSummary_SlotBasedEnginePlan() {
+        Document winningPlan = new Document("queryPlan", new Document("stage", "COLLSCAN"));
+
+        assertEquals("COLLSCAN", SlowQueryRecorder.planSummary(winningPlan));
+    }
+
+    private void run(BsonDocument command, BsonDocument reply, long millis) {
+        String commandName = command.getFirstKey();
+        recorder.commandStarted(new CommandStartedEvent(null, 1, 1, CONNECTION, "BlogApp", commandName, command));
+        recorder.commandSucceeded(new CommandSucceededEvent(null, 1, 1, CONNECTION, "BlogApp", commandName,
+                reply, TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+
+    private static BsonDocument find() {
+        return new BsonDocument("find", new BsonString("posts"))
+                .append("filter", new BsonDocument("authorId", new BsonBinary(UUID.randomUUID())))
+                .append("lsid", new BsonDocument("id", new BsonBinary(UUID.randomUUID())))
+                .append("$db", new BsonString("BlogApp"));
+    }
+
+    private static BsonDocument cursorReply(int documents) {
+        BsonArray batch = new BsonArray();
+        for (int i = 0; i < documents; i++) {
+            batch.add(new BsonDocument("_id", new BsonInt64(i)));
+        }
+        return new BsonDocument("cursor", new BsonDocument("firstBatch", batch).append("id", new BsonInt64(0)));
+    }
+}
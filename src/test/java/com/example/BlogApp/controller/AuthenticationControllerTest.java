@@ -68,7 +68,7 @@ public class AuthenticationControllerTest {
                     .build();
 
             when(authenticationService.saveUser(any(RegisterRequest.class))).thenReturn(mockedUser);
-            when(authenticationService.generateTokenForUser(mockedUser.getUsername())).thenReturn("mocked-jwt-token");
+            when(authenticationService.generateTokenForUser(mockedUser)).thenReturn("mocked-jwt-token");
 
             mockMvc.perform(post("/api/auth/register")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -83,7 +83,8 @@ public class AuthenticationControllerTest {
                     .andExpect(jsonPath("$.data.tokenType").value("Bearer"));
 
             verify(authenticationService, times(1)).saveUser(any(RegisterRequest.class));
-            verify(authenticationService, times(1)).generateTokenForUser(anyString());
+            verify(authenticationService, times(1)).generateTokenForUser(mockedUser);
+            verify(authenticationService, never()).generateTokenForUser(anyString());
         }
 
         @Test
@@ -2,9 +2,11 @@ package com.example.BlogApp.controller;
 
 import com.example.BlogApp.DTO.commentDTO.CommentDTO;
 import com.example.BlogApp.DTO.commentDTO.CreateCommentRequest;
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
 import com.example.BlogApp.exception.GlobalExceptionHandler;
 import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.service.CommentModerationService;
 import com.example.BlogApp.service.CommentService;
 import com.example.BlogApp.utils.TestUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,7 @@ import java.util.UUID;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -38,6 +41,9 @@ public class CommentControllerTest {
     @Mock
     private CommentService commentService;
 
+    @Mock
+    private CommentModerationService commentModerationService;
+
     @InjectMocks
     private CommentController commentController;
 
@@ -407,4 +413,84 @@ public class CommentControllerTest {
                 .andDo(print())
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    @DisplayName("Should start a moderation job for an author and return 202")
+    void testModerateAuthorCommentsAccepted() throws Exception {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        ModerationJobDTO job = ModerationJobDTO.builder()
+                .id(jobId)
+                .authorId(authorId)
+                .action(ModerationJobDTO.Action.DELETE)
+                .status(ModerationJobDTO.Status.QUEUED)
+                .build();
+        when(commentModerationService.moderateAuthor(eq(authorId), eq(ModerationJobDTO.Action.DELETE), eq(randInstant), isNull()))
+                .thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/comments/moderation/authors/" + authorId)
+                        .param("action", "DELETE")
+                        .param("from", "2024-01-01T00:00:00Z"))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.id").value(jobId.toString()))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+
+        verify(commentModerationService, times(1))
+                .moderateAuthor(eq(authorId), eq(ModerationJobDTO.Action.DELETE), eq(randInstant), isNull());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the moderation time range is invalid")
+    void testModerateAuthorCommentsInvalidRange() throws Exception {
+        // Arrange
+        when(commentModerationService.moderateAuthor(any(UUID.class), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("'from' must be before 'to'"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/comments/moderation/authors/" + authorId)
+                        .param("action", "HIDE")
+                        .param("from", "2024-02-01T00:00:00Z")
+                        .param("to", "2024-01-01T00:00:00Z"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return moderation job progress")
+    void testGetModerationJobSuccess() throws Exception {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        ModerationJobDTO job = ModerationJobDTO.builder()
+                .id(jobId)
+                .authorId(authorId)
+                .action(ModerationJobDTO.Action.HIDE)
+                .status(ModerationJobDTO.Status.COMPLETED)
+                .processed(42)
+                .build();
+        when(commentModerationService.getJob(jobId)).thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/comments/moderation/" + jobId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.processed").value(42));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown moderation job")
+    void testGetModerationJobNotFound() throws Exception {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(commentModerationService.getJob(jobId))
+                .thenThrow(new ResourceNotFoundException("Moderation job not found with id: " + jobId));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/comments/moderation/" + jobId))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.BlogApp.controller;
 
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
 import com.example.BlogApp.DTO.postDTO.CreatePostRequest;
 import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.postDTO.PostDetailDTO;
 import com.example.BlogApp.DTO.postDTO.UpdatePostRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
 import com.example.BlogApp.exception.GlobalExceptionHandler;
@@ -185,6 +187,31 @@ class PostControllerTest {
         verify(postService, times(1)).getPostById(postId);
     }
 
+    @Test
+    @DisplayName("Should get post page with comments successfully")
+    void testGetPostDetailSuccess() throws Exception {
+        // Arrange
+        PostDetailDTO detail = PostDetailDTO.builder()
+                .post(testPostDTO)
+                .commentCount(1)
+                .comments(List.of(CommentDTO.builder().id(UUID.randomUUID()).content("Nice post").author(testUserDTO).postId(postId).build()))
+                .build();
+        when(postService.getPostDetail(postId, 5)).thenReturn(detail);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/posts/{postId}/full", postId)
+                .param("comments", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.post.id").value(postId.toString()))
+                .andExpect(jsonPath("$.data.commentCount").value(1))
+                .andExpect(jsonPath("$.data.comments[0].author.username").value("testuser"));
+
+        verify(postService, times(1)).getPostDetail(postId, 5);
+    }
+
     // ==================== CREATE POST TESTS ====================
 
     @Test
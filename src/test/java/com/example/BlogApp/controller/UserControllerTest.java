@@ -1,10 +1,15 @@
 package com.example.BlogApp.controller;
 
+import com.example.BlogApp.DTO.CursorPage;
+import com.example.BlogApp.DTO.userDTO.BatchUserRequest;
 import com.example.BlogApp.DTO.userDTO.UpdateUserRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.DTO.userDTO.UserStatsDTO;
+import com.example.BlogApp.DTO.userDTO.UserSummaryDTO;
 import com.example.BlogApp.exception.GlobalExceptionHandler;
 import com.example.BlogApp.exception.ResourceNotFoundException;
 import com.example.BlogApp.service.UserService;
+import com.example.BlogApp.service.UserStatsService;
 import com.example.BlogApp.utils.TestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,18 +18,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +53,12 @@ public class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Spy
+    private JsonMapper jsonMapper = JsonMapper.builder().build();
+
     @InjectMocks
     private UserController userController;
 
@@ -70,8 +92,12 @@ public class UserControllerTest {
     @Test
     @DisplayName("Get All Users - Success")
     void testGetAllUsersSuccess() throws Exception {
-        List<UserDTO> userList = List.of(testUserDTO);
-        when(userService.getAllUsers()).thenReturn(userList);
+        CursorPage<UserDTO> page = CursorPage.<UserDTO>builder()
+                .items(List.of(testUserDTO))
+                .hasMore(true)
+                .nextCursor(userID.toString())
+                .build();
+        when(userService.getAllUsers(null, 50)).thenReturn(page);
 
         mockMvc.perform(get("/api/users")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -79,34 +105,55 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Users retrieved successfully"))
-                .andExpect(jsonPath("$.data[0].id").value(userID.toString()))
-                .andExpect(jsonPath("$.data[0].username").value("testUser"))
-                .andExpect(jsonPath("$.data[0].email").value("test@gmail.com"))
-                .andExpect(jsonPath("$.data[0].createdAt").value(randInstant.toString()))
-                .andExpect(jsonPath("$.data[0].updatedAt").value(randInstant.toString()));
+                .andExpect(jsonPath("$.data.items[0].id").value(userID.toString()))
+                .andExpect(jsonPath("$.data.items[0].username").value("testUser"))
+                .andExpect(jsonPath("$.data.items[0].email").value("test@gmail.com"))
+                .andExpect(jsonPath("$.data.items[0].createdAt").value(randInstant.toString()))
+                .andExpect(jsonPath("$.data.items[0].updatedAt").value(randInstant.toString()))
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(userID.toString()));
+
+        verify(userService, times(1)).getAllUsers(null, 50);
+    }
+
+    @Test
+    @DisplayName("Get All Users - Cursor and Limit")
+    void testGetAllUsersWithCursor() throws Exception {
+        UUID cursor = UUID.randomUUID();
+        when(userService.getAllUsers(cursor, 10)).thenReturn(CursorPage.<UserDTO>builder()
+                .items(List.of())
+                .build());
+
+        mockMvc.perform(get("/api/users")
+                .param("cursor", cursor.toString())
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasMore").value(false));
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(cursor, 10);
     }
 
     @Test
     @DisplayName("Get All Users - Empty List")
     void testGetAllUsersEmptyList() throws Exception {
-        when(userService.getAllUsers()).thenReturn(List.of());
+        when(userService.getAllUsers(null, 50)).thenReturn(CursorPage.<UserDTO>builder()
+                .items(List.of())
+                .build());
 
         mockMvc.perform(get("/api/users")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(0));
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(null, 50);
     }
 
     @Test
     @DisplayName("Get All Users - Service Exception")
     void testGetAllUsersServiceException() throws Exception {
-        when(userService.getAllUsers()).thenThrow(new RuntimeException("Database error"));
+        when(userService.getAllUsers(null, 50)).thenThrow(new RuntimeException("Database error"));
 
         mockMvc.perform(get("/api/users")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -114,7 +161,152 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(null, 50);
+    }
+
+    // ==================== GET /api/users/export ====================
+
+    @Test
+    @DisplayName("Export Users - Streams NDJSON")
+    void testExportUsersStreamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<UserDTO> sink = invocation.getArgument(0);
+            sink.accept(testUserDTO);
+            sink.accept(UserDTO.builder().id(UUID.randomUUID()).username("second").build());
+            return 2L;
+        }).when(userService).exportUsers(any());
+
+        MvcResult result = mockMvc.perform(get("/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"username\":\"testUser\""));
+        assertTrue(lines[1].contains("\"username\":\"second\""));
+    }
+
+    // ==================== GET /api/users/search ====================
+
+    @Test
+    @DisplayName("Search Users by Prefix - Success")
+    void testSearchUsersSuccess() throws Exception {
+        when(userService.searchByUsernamePrefix("test", 10)).thenReturn(List.of(testUserSummary()));
+
+        mockMvc.perform(get("/api/users/search").param("prefix", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(userID.toString()))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist());
+
+        verify(userService, times(1)).searchByUsernamePrefix("test", 10);
+    }
+
+    // ==================== GET /api/users/{userId}/stats ====================
+
+    @Test
+    @DisplayName("Get User Stats - Success")
+    void testGetUserStatsSuccess() throws Exception {
+        UserStatsDTO stats = UserStatsDTO.builder()
+                .userId(userID)
+                .postCount(3)
+                .publishedCount(2)
+                .commentCount(7)
+                .totalViews(40)
+                .build();
+        when(userStatsService.getStats(userID)).thenReturn(stats);
+
+        mockMvc.perform(get("/api/users/{userId}/stats", userID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.postCount").value(3))
+                .andExpect(jsonPath("$.data.publishedCount").value(2))
+                .andExpect(jsonPath("$.data.commentCount").value(7))
+                .andExpect(jsonPath("$.data.totalViews").value(40));
+    }
+
+    @Test
+    @DisplayName("Get User Stats - User Not Found")
+    void testGetUserStatsNotFound() throws Exception {
+        when(userStatsService.getStats(userID)).thenThrow(new ResourceNotFoundException("User not found with id: " + userID));
+
+        mockMvc.perform(get("/api/users/{userId}/stats", userID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    // ==================== POST /api/users/stats/repair ====================
+
+    @Test
+    @DisplayName("Repair User Stats - Accepted")
+    void testRepairUserStatsAccepted() throws Exception {
+        when(userStatsService.repair()).thenReturn(true);
+
+        mockMvc.perform(post("/api/users/stats/repair"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("User stats repair started"));
+
+        verify(userStatsService, times(1)).repair();
+    }
+
+    // ==================== POST /api/users/batch ====================
+
+    @Test
+    @DisplayName("Get Users Batch - Success")
+    void testGetUsersBatchSuccess() throws Exception {
+        UUID unknownId = UUID.randomUUID();
+        BatchUserRequest request = BatchUserRequest.builder()
+                .ids(List.of(userID, unknownId))
+                .build();
+        when(userService.getUsersBatch(List.of(userID, unknownId))).thenReturn(List.of(testUserSummary()));
+
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(userID.toString()))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist());
+
+        verify(userService, times(1)).getUsersBatch(List.of(userID, unknownId));
+    }
+
+    @Test
+    @DisplayName("Get Users Batch - Empty Id List")
+    void testGetUsersBatchEmptyIds() throws Exception {
+        BatchUserRequest request = BatchUserRequest.builder()
+                .ids(List.of())
+                .build();
+
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersBatch(any());
+    }
+
+    @Test
+    @DisplayName("Get Users Batch - Too Many Ids")
+    void testGetUsersBatchTooManyIds() throws Exception {
+        BatchUserRequest request = BatchUserRequest.builder()
+                .ids(Stream.generate(UUID::randomUUID).limit(101).toList())
+                .build();
+
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.asJsonString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersBatch(any());
     }
 
     // ==================== GET /api/users/{userId} ====================
@@ -337,14 +529,15 @@ public class UserControllerTest {
                 .build();
 
         when(userService.updateUserProfile(any(UUID.class), any(UpdateUserRequest.class)))
-                .thenThrow(new IllegalArgumentException("Username already exists"));
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: blog.users index: username_1 dup key: { username: \"existingUser\" }"));
 
         mockMvc.perform(put("/api/users/" + userID)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(TestUtil.asJsonString(request)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.success").value(false))
-                .andExpect(jsonPath("$.message").value("Username already exists"));
+                .andExpect(jsonPath("$.message").value("Username already exists"))
+                .andExpect(jsonPath("$.data.field").value("username"));
 
         verify(userService, times(1)).updateUserProfile(any(UUID.class), any(UpdateUserRequest.class));
     }
@@ -360,14 +553,15 @@ public class UserControllerTest {
                 .build();
 
         when(userService.updateUserProfile(any(UUID.class), any(UpdateUserRequest.class)))
-                .thenThrow(new IllegalArgumentException("Email already exists"));
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: blog.users index: email_1 dup key: { email: \"existing@gmail.com\" }"));
 
         mockMvc.perform(put("/api/users/" + userID)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(TestUtil.asJsonString(request)))
-                .andExpect(status().isBadRequest())
+                .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.success").value(false))
-                .andExpect(jsonPath("$.message").value("Email already exists"));
+                .andExpect(jsonPath("$.message").value("Email already exists"))
+                .andExpect(jsonPath("$.data.field").value("email"));
 
         verify(userService, times(1)).updateUserProfile(any(UUID.class), any(UpdateUserRequest.class));
     }
@@ -435,4 +629,8 @@ public class UserControllerTest {
 
         verify(userService, never()).deleteUser(any());
     }
+
+    private UserSummaryDTO testUserSummary() {
+        return UserSummaryDTO.builder().id(userID).username("testUser").build();
+    }
 }
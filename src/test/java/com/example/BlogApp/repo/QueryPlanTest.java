@@ -0,0 +1,180 @@
+package com.example.BlogApp.repo;
+
+import com.example.BlogApp.config.MongoIndexProperties;
+import com.example.BlogApp.config.MongoIndexesCreator;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan tests for every derived query in PostRepo, CommentRepo and UserRepo
+ * Each query runs against a throwaway MongoDB with the index catalog applied; every command
+ * it sends is explained, and a winning plan with a COLLSCAN or an in-memory SORT fails the test.
+ * Skipped when Docker is unavailable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct", "delete", "update", "findAndModify");
+    private static final Set<String> FORBIDDEN_STAGES = Set.of("COLLSCAN", "SORT");
+
+    /** Queries that cannot be served by an index, with the reason. */
+    private static final Map<String, String> EXEMPT = Map.of(
+            "PostRepo.findByTitleContainingOrContentContaining",
+            "unanchored substring match over free text; no B-tree index can bound it");
+
+    @Container
+    static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final List<CommandStartedEvent> commands = new CopyOnWriteArrayList<>();
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private static Map<String, Runnable> queries;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongo.getConnectionString()))
+                .uuidRepresentation(UuidRepresentation.STANDARD)
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        commands.add(event);
+                    }
+                })
+                .build());
+        mongoTemplate = new MongoTemplate(client, "query_plans");
+        new MongoIndexesCreator(mongoTemplate, new MongoIndexProperties()).run(new DefaultApplicationArguments());
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(mongoTemplate);
+        PostRepo postRepo = factory.getRepository(PostRepo.class, new PostRepoCustomImpl(mongoTemplate));
+        CommentRepo commentRepo = factory.getRepository(CommentRepo.class, new CommentRepoCustomImpl(mongoTemplate));
+        UserRepo userRepo = factory.getRepository(UserRepo.class, new UserRepoCustomImpl(mongoTemplate));
+        HotPathReadRepo hotPathReadRepo = new HotPathReadRepo(mongoTemplate);
+
+        UUID id = UUID.randomUUID();
+        // Ask for a later page so paged queries also issue their count
+        Pageable page = PageRequest.of(1, 10);
+        queries = new LinkedHashMap<>();
+        queries.put("PostRepo.findByPublishedTrueOrderByCreatedAtDesc", () -> postRepo.findByPublishedTrueOrderByCreatedAtDesc(page));
+        queries.put("PostRepo.findByAuthorId", () -> postRepo.findByAuthorId(id, page));
+        queries.put("PostRepo.findByAuthorIdAndPublishedTrue", () -> postRepo.findByAuthorIdAndPublishedTrue(id, page));
+        queries.put("PostRepo.findByTitleContainingOrContentContaining", () -> postRepo.findByTitleContainingOrContentContaining("java", "java", page));
+        queries.put("PostRepo.findDetail", () -> postRepo.findDetail(id, 20));
+        queries.put("PostRepo.deleteByIdIn", () -> postRepo.deleteByIdIn(List.of(id)));
+        queries.put("CommentRepo.findByPostId", () -> commentRepo.findByPostId(id));
+        queries.put("CommentRepo.findByAuthorId", () -> commentRepo.findByAuthorId(id));
+        queries.put("CommentRepo.deleteByIdIn", () -> commentRepo.deleteByIdIn(List.of(id)));
+        queries.put("UserRepo.findByUsername", () -> userRepo.findByUsername("Alice"));
+        queries.put("UserRepo.findByEmail", () -> userRepo.findByEmail("Alice@Example.com"));
+        queries.put("UserRepo.existsByUsername", () -> userRepo.existsByUsername("Alice"));
+        queries.put("UserRepo.existsByEmail", () -> userRepo.existsByEmail("Alice@Example.com"));
+        queries.put("HotPathReadRepo.findPublishedFeed", () -> hotPathReadRepo.findPublishedFeed(page));
+        queries.put("HotPathReadRepo.findVisibleByPostId", () -> hotPathReadRepo.findVisibleByPostId(id));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void testEveryDerivedQueryIsCovered() {
+        List<String> missing = Stream.of(PostRepo.class, CommentRepo.class, UserRepo.class)
+                .flatMap(repo -> Arrays.stream(repo.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                        .map(Method::getName)
+                        .map(name -> repo.getSimpleName() + "." + name))
+                .filter(name -> !queries.containsKey(name))
+                .toList();
+
+        assertTrue(missing.isEmpty(), "Derived queries without a plan check: " + missing);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> testDerivedQueriesUseIndexes() {
+        return queries.entrySet().stream()
+                .filter(query -> !EXEMPT.containsKey(query.getKey()))
+                .map(query -> DynamicTest.dynamicTest(query.getKey(), () -> assertIndexed(query.getKey(), query.getValue())));
+    }
+
+    private static void assertIndexed(String name, Runnable query) {
+        commands.clear();
+        query.run();
+        List<CommandStartedEvent> issued = commands.stream()
+                .filter(event -> EXPLAINABLE.contains(event.getCommandName()))
+                .toList();
+        assertFalse(issued.isEmpty(), name + " issued no query");
+
+        for (CommandStartedEvent event : issued) {
+            Document explain = mongoTemplate.getDb().runCommand(new Document("explain", stripSessionFields(event.getCommand()))
+                    .append("verbosity", "queryPlanner"));
+            List<String> stages = new ArrayList<>();
+            collectWinningStages(explain, false, stages);
+            assertFalse(stages.isEmpty(), name + ": no winning plan in " + explain.toJson());
+            assertTrue(stages.stream().noneMatch(FORBIDDEN_STAGES::contains),
+                    name + " (" + event.getCommandName() + ") plans " + stages);
+        }
+    }
+
+    private static BsonDocument stripSessionFields(BsonDocument command) {
+        BsonDocument stripped = command.clone();
+        stripped.keySet().removeIf(key -> key.startsWith("$") || key.equals("lsid") || key.equals("txnNumber"));
+        return stripped;
+    }
+
+    /**
+     * Gather the stage names under every winningPlan, however deeply explain nests them
+     * (find and count put it under queryPlanner, aggregate under each $cursor stage).
+     */
+    private static void collectWinningStages(Object node, boolean inWinningPlan, List<String> stages) {
+        if (node instanceof Document document) {
+            document.forEach((key, value) -> {
+                if (key.equals("rejectedPlans")) {
+                    return;
+                }
+                if (inWinningPlan && key.equals("stage") && value instanceof String stage) {
+                    stages.add(stage);
+                }
+                collectWinningStages(value, inWinningPlan || key.equals("winningPlan"), stages);
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collectWinningStages(item, inWinningPlan, stages));
+        }
+    }
+}
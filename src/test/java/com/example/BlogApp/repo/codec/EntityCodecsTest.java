@@ -0,0 +1,182 @@
+package com.example.BlogApp.repo.codec;
+
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the entity codecs
+ * Tests round trips and that documents written by MappingMongoConverter and by the codecs are interchangeable
+ */
+class EntityCodecsTest {
+
+    private Codec<Document> documentCodec;
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        documentCodec = CodecRegistries.withUuidRepresentation(MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.STANDARD)
+                .get(Document.class);
+        // Configured as Spring Boot configures the application's converter
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void testPost_RoundTrip() {
+        Post post = samplePost();
+
+        assertEquals(post, decode(Post.class, encode(post)));
+    }
+
+    @Test
+    void testPost_ReadsConverterDocument() {
+        // Arrange
+        Post post = samplePost();
+        Document document = new Document();
+        converter.write(post, document);
+
+        // Act
+        Post decoded = decode(Post.class, encodeDocument(document));
+
+        // Assert
+        assertEquals(post, decoded);
+    }
+
+    @Test
+    void testPost_ConverterReadsCodecDocument() {
+        Post post = samplePost();
+
+        Document document = documentCodec.decode(reader(encode(post)), DecoderContext.builder().build());
+
+        assertEquals(post, converter.read(Post.class, document));
+        assertEquals(Post.class.getName(), document.getString("_class"));
+    }
+
+    @Test
+    void testComment_ReadsConverterDocumentAndBack() {
+        // Arrange
+        Comment comment = new Comment(UUID.randomUUID(), "Nice post", UUID.randomUUID(), UUID.randomUUID(), true, now(), now());
+        Document document = new Document();
+        converter.write(comment, document);
+
+        // Act
+        Comment decoded = decode(Comment.class, encodeDocument(document));
+        Document reencoded = documentCodec.decode(reader(encode(decoded)), DecoderContext.builder().build());
+
+        // Assert
+        assertEquals(comment, decoded);
+        assertEquals(comment, converter.read(Comment.class, reencoded));
+    }
+
+    @Test
+    void testUser_ReadsConverterDocumentAndBack() {
+        // Arrange
+        User user = new User(UUID.randomUUID(), "alice", "alice@example.com", "hash", Set.of("USER", "ADMIN"),
+                false, null, now(), now());
+        Document document = new Document();
+        converter.write(user, document);
+
+        // Act
+        User decoded = decode(User.class, encodeDocument(document));
+        Document reencoded = documentCodec.decode(reader(encode(decoded)), DecoderContext.builder().build());
+
+        // Assert
+        assertEquals(user, decoded);
+        assertEquals(user, converter.read(User.class, reencoded));
+        assertFalse(reencoded.containsKey("deletedAt"));
+    }
+
+    @Test
+    void testDecode_ToleratesInt32NumbersNullsAndUnknownFields() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Document document = new Document("_id", id)
+                .append("views", 7)
+                .append("tags", null)
+                .append("legacy", new Document("nested", List.of(1, 2)))
+                .append("published", true);
+
+        // Act
+        Post decoded = decode(Post.class, encodeDocument(document));
+
+        // Assert
+        assertEquals(id, decoded.getId());
+        assertEquals(7, decoded.getViews());
+        assertNull(decoded.getTags());
+        assertTrue(decoded.isPublished());
+    }
+
+    @Test
+    void testDecode_LegacyUuidSubtype_ThrowsException() {
+        Document document = new Document("_id", UUID.randomUUID());
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        CodecRegistries.withUuidRepresentation(MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.JAVA_LEGACY)
+                .get(Document.class)
+                .encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+
+        assertThrows(IllegalStateException.class, () -> decode(Post.class, buffer.toByteArray()));
+    }
+
+    private static Post samplePost() {
+        return new Post(UUID.randomUUID(), "Title", "Content", UUID.randomUUID(), List.of("java", "mongo"),
+                42, true, now(), now());
+    }
+
+    private static Instant now() {
+        // BSON dates have millisecond precision
+        return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] encode(Object entity) {
+        Codec<Object> codec = (Codec<Object>) EntityCodecs.registry().get(entity.getClass());
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private byte[] encodeDocument(Document document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private static <T> T decode(Class<T> type, byte[] bytes) {
+        return EntityCodecs.registry().get(type).decode(reader(bytes), DecoderContext.builder().build());
+    }
+
+    private static BsonBinaryReader reader(byte[] bytes) {
+        return new BsonBinaryReader(ByteBuffer.wrap(bytes));
+    }
+}
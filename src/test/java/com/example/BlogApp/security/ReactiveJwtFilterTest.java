@@ -0,0 +1,139 @@
+package com.example.BlogApp.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveJwtFilter
+ * Tests that a valid bearer token authenticates the rest of the chain, auth failures pass through unauthenticated
+ * and lookup errors propagate
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveJwtFilterTest {
+
+    @Mock
+    private JwtProperties jwtProperties;
+
+    @Mock
+    private ReactiveUserDetailsService userDetailsService;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private ReactiveJwtFilter filter;
+    private UserDetails userDetails;
+    private AtomicReference<Authentication> seen;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jwtProperties.getSecret()).thenReturn("mySecretKeyForTestingPurposesOnly12345");
+        lenient().when(jwtProperties.getExpirationMs()).thenReturn(3600000L);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        filter = new ReactiveJwtFilter(jwtTokenProvider, userDetailsService);
+
+        userDetails = User.builder()
+                .username("testuser")
+                .password("password123")
+                .authorities(List.of())
+                .build();
+
+        // Records the authentication the rest of the chain runs with
+        seen = new AtomicReference<>();
+        chain = exchange -> ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(seen::set)
+                .then();
+    }
+
+    @Test
+    void testFilter_ValidToken_Authenticates() {
+        // Arrange
+        String token = jwtTokenProvider.generateToken(userDetails);
+        when(userDetailsService.findByUsername("testuser")).thenReturn(Mono.just(userDetails));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange("Bearer " + token), chain)).verifyComplete();
+
+        // Assert
+        assertNotNull(seen.get());
+        assertEquals("testuser", seen.get().getName());
+        assertTrue(seen.get().isAuthenticated());
+    }
+
+    @Test
+    void testFilter_NoHeader_PassesThroughUnauthenticated() {
+        // Act
+        StepVerifier.create(filter.filter(exchange(null), chain)).verifyComplete();
+
+        // Assert
+        assertNull(seen.get());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testFilter_MalformedToken_PassesThroughUnauthenticated() {
+        // Act
+        StepVerifier.create(filter.filter(exchange("Bearer not-a-jwt"), chain)).verifyComplete();
+
+        // Assert
+        assertNull(seen.get());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testFilter_UnknownUser_PassesThroughUnauthenticated() {
+        // Arrange
+        String token = jwtTokenProvider.generateToken(userDetails);
+        when(userDetailsService.findByUsername("testuser"))
+                .thenReturn(Mono.error(new UsernameNotFoundException("testuser")));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange("Bearer " + token), chain)).verifyComplete();
+
+        // Assert
+        assertNull(seen.get());
+    }
+
+    @Test
+    void testFilter_UserLookupFails_PropagatesError() {
+        // Arrange
+        String token = jwtTokenProvider.generateToken(userDetails);
+        when(userDetailsService.findByUsername("testuser"))
+                .thenReturn(Mono.error(new DataAccessResourceFailureException("connection refused")));
+
+        // Act & Assert
+        StepVerifier.create(filter.filter(exchange("Bearer " + token), chain))
+                .verifyError(DataAccessResourceFailureException.class);
+        assertNull(seen.get());
+    }
+
+    private static MockServerWebExchange exchange(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/posts");
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
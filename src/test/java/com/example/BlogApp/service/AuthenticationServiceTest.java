@@ -50,6 +50,9 @@ class AuthenticationServiceTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Mock
+    private UsernamePrefixIndex usernamePrefixIndex;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -116,7 +119,7 @@ class AuthenticationServiceTest {
         // Arrange
         String encodedPassword = "encoded_password_hash";
         when(bCryptPasswordEncoder.encode(registerRequest.getPassword())).thenReturn(encodedPassword);
-        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepo.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         User savedUser = authenticationService.saveUser(registerRequest);
@@ -128,7 +131,10 @@ class AuthenticationServiceTest {
         assertEquals(encodedPassword, savedUser.getPassword());
         assertEquals(Set.of("USER"), savedUser.getRoles());
         verify(bCryptPasswordEncoder, times(1)).encode(registerRequest.getPassword());
-        verify(userRepo, times(1)).save(any(User.class));
+        verify(userRepo, times(1)).insert(any(User.class));
+        verify(userRepo, never()).existsByUsername(anyString());
+        verify(userRepo, never()).existsByEmail(anyString());
+        verify(usernamePrefixIndex, times(1)).put(savedUser.getId(), registerRequest.getUsername());
     }
 
     @Test
@@ -137,7 +143,7 @@ class AuthenticationServiceTest {
         String plainPassword = registerRequest.getPassword();
         String encodedPassword = "encoded_hash";
         when(bCryptPasswordEncoder.encode(plainPassword)).thenReturn(encodedPassword);
-        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepo.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         User savedUser = authenticationService.saveUser(registerRequest);
@@ -151,7 +157,7 @@ class AuthenticationServiceTest {
     void testSaveUser_UserRoleIsAssigned() {
         // Arrange
         when(bCryptPasswordEncoder.encode(anyString())).thenReturn("encoded");
-        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepo.insert(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         User savedUser = authenticationService.saveUser(registerRequest);
@@ -271,5 +277,24 @@ class AuthenticationServiceTest {
         assertThrows(org.springframework.security.core.userdetails.UsernameNotFoundException.class,
                 () -> authenticationService.generateTokenForUser(nonExistentUsername));
     }
-}
 
+    @Test
+    void testGenerateTokenForSavedUser_DoesNotReloadUser() {
+        // Arrange
+        User savedUser = User.builder()
+                .username("testuser")
+                .password("encoded")
+                .roles(Set.of("USER"))
+                .build();
+        when(jwtTokenProvider.generateToken(any(UserDetails.class))).thenReturn("token");
+
+        // Act
+        String token = authenticationService.generateTokenForUser(savedUser);
+
+        // Assert
+        assertEquals("token", token);
+        verify(jwtTokenProvider, times(1)).generateToken(argThat(details -> "testuser".equals(details.getUsername())));
+        verifyNoInteractions(myUserDetailsService);
+        verifyNoInteractions(userRepo);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.CommentBatchingProperties;
+import com.example.BlogApp.model.Comment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CommentInsertBatcher
+ * Tests batching of concurrent inserts, error propagation to waiting callers and the submit timeout
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentInsertBatcherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private CommentBatchingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CommentInsertBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CommentBatchingProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(10);
+        properties.setMaxWait(Duration.ofMillis(50));
+
+        meterRegistry = new SimpleMeterRegistry();
+        batcher = new CommentInsertBatcher(mongoTemplate, properties, meterRegistry);
+        batcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+    }
+
+    @Test
+    void testInsert_ConcurrentCallersShareBatch() throws Exception {
+        // Arrange
+        List<Collection<Comment>> batches = new ArrayList<>();
+        when(mongoTemplate.insert(anyCollection(), eq(Comment.class))).thenAnswer(invocation -> {
+            Collection<Comment> comments = invocation.getArgument(0);
+            comments.forEach(comment -> comment.setId(UUID.randomUUID()));
+            synchronized (batches) {
+                batches.add(comments);
+            }
+            return comments;
+        });
+
+        // Act
+        List<Future<Comment>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            for (int i = 0; i < 10; i++) {
+                Comment comment = new Comment();
+                comment.setContent("Comment " + i);
+                results.add(executor.submit(() -> batcher.insert(comment)));
+            }
+        }
+
+        // Assert
+        for (int i = 0; i < results.size(); i++) {
+            Comment saved = results.get(i).get();
+            assertNotNull(saved.getId());
+            assertEquals("Comment " + i, saved.getContent());
+        }
+        assertTrue(batches.size() < 10, "Expected inserts to be grouped into fewer batches");
+        assertEquals(10, meterRegistry.get("comments.batch.inserted").counter().count());
+    }
+
+    @Test
+    void testInsert_BatchFailure_PropagatesToCaller() {
+        // Arrange
+        when(mongoTemplate.insert(anyCollection(), eq(Comment.class)))
+                .thenThrow(new IllegalStateException("Database error"));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> batcher.insert(new Comment()));
+        assertEquals("Database error", exception.getMessage());
+    }
+
+    @Test
+    void testInsert_TimesOutWhileQueued_NeverInsertedLater() throws InterruptedException {
+        // Arrange: a second batcher whose flusher is not running yet
+        properties.setSubmitTimeout(Duration.ofMillis(100));
+        CommentInsertBatcher idle = new CommentInsertBatcher(mongoTemplate, properties, new SimpleMeterRegistry());
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> idle.insert(new Comment()));
+        idle.start();
+        idle.stop();
+
+        // Assert
+        assertEquals("Timed out waiting for comment insert", exception.getMessage());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testInsert_TimesOutWhileBeingWritten_ReturnsWrittenComment() throws Exception {
+        // Arrange
+        properties.setSubmitTimeout(Duration.ofMillis(100));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mongoTemplate.insert(anyCollection(), eq(Comment.class))).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+        Comment comment = new Comment();
+        comment.setContent("Slow write");
+
+        // Act
+        Comment saved;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Comment> result = executor.submit(() -> batcher.insert(comment));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            release.countDown();
+            saved = result.get(5, TimeUnit.SECONDS);
+        }
+
+        // Assert
+        assertEquals("Slow write", saved.getContent());
+    }
+}
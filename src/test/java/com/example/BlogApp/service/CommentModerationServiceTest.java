@@ -0,0 +1,123 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO;
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO.Action;
+import com.example.BlogApp.DTO.commentDTO.ModerationJobDTO.Status;
+import com.example.BlogApp.config.ModerationProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.repo.CommentRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CommentModerationService
+ * Jobs run inline on the calling thread so progress can be asserted directly
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentModerationServiceTest {
+
+    @Mock
+    private CommentRepo commentRepo;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    private ModerationProperties properties;
+    private CommentModerationService moderationService;
+    private UUID authorId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ModerationProperties();
+        properties.setBatchSize(2);
+        properties.setPauseBetweenBatches(Duration.ZERO);
+        moderationService = new CommentModerationService(commentRepo, userStatsService, properties, Runnable::run);
+        authorId = UUID.randomUUID();
+    }
+
+    @Test
+    void testModerateAuthor_Delete_ProcessesInBatches() {
+        // Arrange
+        List<UUID> firstBatch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> lastBatch = List.of(UUID.randomUUID());
+        when(commentRepo.findIdsByAuthor(authorId, null, null, false, 2))
+                .thenReturn(firstBatch, lastBatch);
+        when(commentRepo.deleteByIdIn(firstBatch)).thenReturn(2L);
+        when(commentRepo.deleteByIdIn(lastBatch)).thenReturn(1L);
+
+        // Act
+        ModerationJobDTO queued = moderationService.moderateAuthor(authorId, Action.DELETE, null, null);
+        ModerationJobDTO job = moderationService.getJob(queued.getId());
+
+        // Assert
+        assertEquals(Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getProcessed());
+        assertNotNull(job.getFinishedAt());
+        verify(commentRepo, times(2)).deleteByIdIn(anyCollection());
+        verify(commentRepo, never()).hideByIdIn(anyCollection());
+        verify(userStatsService).recordCommentsRemoved(authorId, 2L);
+        verify(userStatsService).recordCommentsRemoved(authorId, 1L);
+    }
+
+    @Test
+    void testModerateAuthor_Hide_OnlySelectsVisibleComments() {
+        // Arrange
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to = Instant.parse("2024-02-01T00:00:00Z");
+        List<UUID> batch = List.of(UUID.randomUUID());
+        when(commentRepo.findIdsByAuthor(authorId, from, to, true, 2)).thenReturn(batch);
+        when(commentRepo.hideByIdIn(batch)).thenReturn(1L);
+
+        // Act
+        ModerationJobDTO queued = moderationService.moderateAuthor(authorId, Action.HIDE, from, to);
+
+        // Assert
+        ModerationJobDTO job = moderationService.getJob(queued.getId());
+        assertEquals(Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getProcessed());
+        verify(commentRepo, never()).deleteByIdIn(anyCollection());
+        verifyNoInteractions(userStatsService);
+    }
+
+    @Test
+    void testModerateAuthor_RepositoryFailure_MarksJobFailed() {
+        // Arrange
+        when(commentRepo.findIdsByAuthor(any(UUID.class), any(), any(), anyBoolean(), anyInt()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        // Act
+        ModerationJobDTO queued = moderationService.moderateAuthor(authorId, Action.DELETE, null, null);
+
+        // Assert
+        ModerationJobDTO job = moderationService.getJob(queued.getId());
+        assertEquals(Status.FAILED, job.getStatus());
+        assertEquals("Database error", job.getError());
+    }
+
+    @Test
+    void testModerateAuthor_InvalidRange_ThrowsException() {
+        Instant from = Instant.parse("2024-02-01T00:00:00Z");
+        Instant to = Instant.parse("2024-01-01T00:00:00Z");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> moderationService.moderateAuthor(authorId, Action.DELETE, from, to));
+        verifyNoInteractions(commentRepo);
+    }
+
+    @Test
+    void testGetJob_Unknown_ThrowsResourceNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> moderationService.getJob(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.CommentPurgeProperties;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.PostTombstone;
+import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.PostRepo;
+import com.example.BlogApp.repo.PostTombstoneRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CommentPurgeService
+ * Tests chunked deletion, queueing, tombstone resumption and the purge metrics
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentPurgeServiceTest {
+
+    @Mock
+    private CommentRepo commentRepo;
+
+    @Mock
+    private PostRepo postRepo;
+
+    @Mock
+    private PostTombstoneRepo postTombstoneRepo;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentPurgeService purgeService;
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        CommentPurgeProperties properties = new CommentPurgeProperties();
+        properties.setBatchSize(2);
+        properties.setPauseBetweenBatches(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        purgeService = new CommentPurgeService(commentRepo, postRepo, postTombstoneRepo, userStatsService, properties, meterRegistry);
+        postId = UUID.randomUUID();
+    }
+
+    @Test
+    void testPurge_DeletesInChunks() throws InterruptedException {
+        // Arrange
+        List<Comment> first = List.of(commentRef(), commentRef());
+        List<Comment> second = List.of(commentRef(), commentRef());
+        when(commentRepo.findAuthorRefsByPostIds(Set.of(postId), 2)).thenReturn(first, second, List.of());
+        when(commentRepo.deleteByIdIn(anyCollection())).thenReturn(2L);
+
+        // Act
+        long deleted = purgeService.purge(postId);
+
+        // Assert
+        assertEquals(4, deleted);
+        verify(commentRepo, times(2)).deleteByIdIn(anyCollection());
+        assertEquals(4.0, meterRegistry.get("comments.purge.deleted").counter().count());
+        assertEquals(1.0, meterRegistry.get("comments.purge.posts").counter().count());
+        assertEquals(2, meterRegistry.get("comments.purge.batch").timer().count());
+        verify(userStatsService).recordCommentsRemoved(first);
+        verify(userStatsService).recordCommentsRemoved(second);
+    }
+
+    @Test
+    void testPurge_NoComments_DeletesNothing() throws InterruptedException {
+        // Arrange
+        when(commentRepo.findAuthorRefsByPostIds(Set.of(postId), 2)).thenReturn(List.of());
+
+        // Act
+        long deleted = purgeService.purge(postId);
+
+        // Assert
+        assertEquals(0, deleted);
+        verify(commentRepo, never()).deleteByIdIn(anyCollection());
+    }
+
+    @Test
+    void testProcess_PurgesThenClearsTombstone() throws InterruptedException {
+        // Arrange
+        when(postRepo.existsById(postId)).thenReturn(false);
+        when(commentRepo.findAuthorRefsByPostIds(Set.of(postId), 2)).thenReturn(List.of(commentRef()));
+        when(commentRepo.deleteByIdIn(anyCollection())).thenReturn(1L);
+
+        // Act
+        purgeService.process(postId);
+
+        // Assert
+        InOrder inOrder = inOrder(commentRepo, postTombstoneRepo);
+        inOrder.verify(commentRepo).deleteByIdIn(anyCollection());
+        inOrder.verify(postTombstoneRepo).deleteById(postId);
+    }
+
+    @Test
+    void testProcess_PurgeFails_KeepsTombstoneAndAllowsRequeue() {
+        // Arrange
+        when(postRepo.existsById(postId)).thenReturn(false);
+        when(commentRepo.findAuthorRefsByPostIds(Set.of(postId), 2)).thenThrow(new RuntimeException("connection reset"));
+        purgeService.enqueue(postId);
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> purgeService.process(postId));
+        verify(postTombstoneRepo, never()).deleteById(any());
+        purgeService.enqueue(postId);
+        assertEquals(2, purgeService.getQueueDepth());
+    }
+
+    @Test
+    void testProcess_PostStillExists_DropsTombstoneOnly() throws InterruptedException {
+        // Arrange
+        when(postRepo.existsById(postId)).thenReturn(true);
+
+        // Act
+        purgeService.process(postId);
+
+        // Assert
+        verifyNoInteractions(commentRepo);
+        verify(postTombstoneRepo).deleteById(postId);
+    }
+
+    @Test
+    void testResumePending_QueuesTombstonedPosts() {
+        // Arrange
+        UUID otherPostId = UUID.randomUUID();
+        when(postTombstoneRepo.findByDeletedAtBefore(any(Instant.class))).thenReturn(List.of(
+                new PostTombstone(postId, Instant.now()), new PostTombstone(otherPostId, Instant.now())));
+        purgeService.enqueue(postId);
+
+        // Act
+        purgeService.resumePending();
+
+        // Assert: the post already waiting is not queued twice
+        assertEquals(2, purgeService.getQueueDepth());
+    }
+
+    @Test
+    void testMarkForPurge_SavesTombstone() {
+        // Act
+        purgeService.markForPurge(postId);
+
+        // Assert
+        verify(postTombstoneRepo).save(argThat(tombstone -> tombstone.getPostId().equals(postId) && tombstone.getDeletedAt() != null));
+    }
+
+    @Test
+    void testEnqueue_ReportsQueueDepth() {
+        purgeService.enqueue(postId);
+        purgeService.enqueue(UUID.randomUUID());
+
+        assertEquals(2, purgeService.getQueueDepth());
+        assertEquals(2.0, meterRegistry.get("comments.purge.queue.depth").gauge().value());
+        verifyNoInteractions(commentRepo);
+    }
+
+    @Test
+    void testStart_WorkerDrainsQueue() {
+        // Arrange
+        when(commentRepo.findAuthorRefsByPostIds(Set.of(postId), 2)).thenReturn(List.of(commentRef()));
+        when(commentRepo.deleteByIdIn(anyCollection())).thenReturn(1L);
+        purgeService.start();
+
+        try {
+            // Act
+            purgeService.enqueue(postId);
+
+            // Assert
+            verify(commentRepo, timeout(2000)).deleteByIdIn(anyCollection());
+            verify(postTombstoneRepo, timeout(2000)).deleteById(postId);
+        } finally {
+            purgeService.stop();
+        }
+    }
+
+    private static Comment commentRef() {
+        Comment comment = new Comment();
+        comment.setId(UUID.randomUUID());
+        comment.setAuthorId(UUID.randomUUID());
+        return comment;
+    }
+}
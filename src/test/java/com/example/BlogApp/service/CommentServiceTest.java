@@ -3,28 +3,35 @@ package com.example.BlogApp.service;
 import com.example.BlogApp.DTO.commentDTO.CommentDTO;
 import com.example.BlogApp.DTO.commentDTO.CreateCommentRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.exception.ContentRejectedException;
+import com.example.BlogApp.config.CompositeReadProperties;
 import com.example.BlogApp.exception.ResourceNotFoundException;
 import com.example.BlogApp.model.Comment;
 import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.HotPathReadRepo;
 import com.example.BlogApp.repo.PostRepo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,6 +50,28 @@ class CommentServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private CommentInsertBatcher commentInsertBatcher;
+
+    @Mock
+    private CommentStreamHub commentStreamHub;
+
+    @Mock
+    private ContentFilterService contentFilterService;
+
+    @Mock
+    private DuplicateCommentDetector duplicateCommentDetector;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private HotPathReadRepo hotPathReadRepo;
+
+    // Lookups run inline on the test thread
+    @Spy
+    private CompositeReads compositeReads = new CompositeReads(new CompositeReadProperties(), Runnable::run);
+
     @Mock
     private SecurityContext securityContext;
 
@@ -108,6 +137,7 @@ class CommentServiceTest {
         assertEquals(createCommentRequest.getContent(), result.getContent());
         assertEquals(testPostId, result.getPostId());
         verify(commentRepo, times(1)).save(any(Comment.class));
+        verify(duplicateCommentDetector).record(testAuthorId, createCommentRequest.getContent());
     }
 
     @Test
@@ -147,6 +177,85 @@ class CommentServiceTest {
         verify(userService, times(1)).getUserByUsername("testuser");
     }
 
+    @Test
+    void testAddComment_PublishesToStream() {
+        // Arrange
+        SecurityContextHolder.setContext(securityContext);
+        when(authentication.getName()).thenReturn("testuser");
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+
+        when(postRepo.existsById(testPostId)).thenReturn(true);
+        when(userService.getUserByUsername("testuser")).thenReturn(testUserDTO);
+        when(commentRepo.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        CommentDTO result = commentService.addComment(createCommentRequest);
+
+        // Assert
+        verify(commentStreamHub, times(1)).publish(result);
+    }
+
+    @Test
+    void testAddComment_NearDuplicate_ThrowsException() {
+        // Arrange
+        SecurityContextHolder.setContext(securityContext);
+        when(authentication.getName()).thenReturn("testuser");
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+
+        when(postRepo.existsById(testPostId)).thenReturn(true);
+        when(userService.getUserByUsername("testuser")).thenReturn(testUserDTO);
+        doThrow(new ContentRejectedException("Comment rejected as a near-duplicate of a recent comment"))
+                .when(duplicateCommentDetector).check(testAuthorId, createCommentRequest.getContent());
+
+        // Act & Assert
+        assertThrows(ContentRejectedException.class, () -> commentService.addComment(createCommentRequest));
+        verify(commentRepo, never()).save(any(Comment.class));
+        verify(duplicateCommentDetector, never()).record(any(UUID.class), anyString());
+    }
+
+    @Test
+    void testAddComment_SaveFails_NotRecordedAsDuplicate() {
+        // Arrange
+        SecurityContextHolder.setContext(securityContext);
+        when(authentication.getName()).thenReturn("testuser");
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+
+        when(postRepo.existsById(testPostId)).thenReturn(true);
+        when(userService.getUserByUsername("testuser")).thenReturn(testUserDTO);
+        when(commentRepo.save(any(Comment.class))).thenThrow(new RuntimeException("write failed"));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> commentService.addComment(createCommentRequest));
+        verify(duplicateCommentDetector).check(testAuthorId, createCommentRequest.getContent());
+        verify(duplicateCommentDetector, never()).record(any(UUID.class), anyString());
+    }
+
+    // ==================== Stream Comments Tests ====================
+
+    @Test
+    void testStreamComments_Success() {
+        // Arrange
+        SseEmitter emitter = new SseEmitter();
+        when(postRepo.existsById(testPostId)).thenReturn(true);
+        when(commentStreamHub.subscribe(testPostId)).thenReturn(emitter);
+
+        // Act
+        SseEmitter result = commentService.streamComments(testPostId);
+
+        // Assert
+        assertSame(emitter, result);
+    }
+
+    @Test
+    void testStreamComments_PostNotFound_ThrowsException() {
+        // Arrange
+        when(postRepo.existsById(testPostId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> commentService.streamComments(testPostId));
+        verify(commentStreamHub, never()).subscribe(any(UUID.class));
+    }
+
     // ==================== Get Comments By Post Tests ====================
 
     @Test
@@ -154,8 +263,8 @@ class CommentServiceTest {
         // Arrange
         List<Comment> comments = Arrays.asList(testComment);
         when(postRepo.existsById(testPostId)).thenReturn(true);
-        when(commentRepo.findByPostId(testPostId)).thenReturn(comments);
-        when(userService.getUserById(testAuthorId)).thenReturn(testUserDTO);
+        when(hotPathReadRepo.findVisibleByPostId(testPostId)).thenReturn(comments);
+        when(userService.getUsersByIds(List.of(testAuthorId))).thenReturn(Map.of(testAuthorId, testUserDTO));
 
         // Act
         List<CommentDTO> result = commentService.getCommentsByPost(testPostId);
@@ -164,7 +273,7 @@ class CommentServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(testComment.getContent(), result.get(0).getContent());
-        verify(commentRepo, times(1)).findByPostId(testPostId);
+        verify(hotPathReadRepo, times(1)).findVisibleByPostId(testPostId);
     }
 
     @Test
@@ -174,14 +283,14 @@ class CommentServiceTest {
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> commentService.getCommentsByPost(testPostId));
-        verify(commentRepo, never()).findByPostId(any(UUID.class));
+        verifyNoInteractions(userService);
     }
 
     @Test
     void testGetCommentsByPost_EmptyComments() {
         // Arrange
         when(postRepo.existsById(testPostId)).thenReturn(true);
-        when(commentRepo.findByPostId(testPostId)).thenReturn(Arrays.asList());
+        when(hotPathReadRepo.findVisibleByPostId(testPostId)).thenReturn(Arrays.asList());
 
         // Act
         List<CommentDTO> result = commentService.getCommentsByPost(testPostId);
@@ -202,8 +311,8 @@ class CommentServiceTest {
 
         List<Comment> comments = Arrays.asList(testComment, comment2);
         when(postRepo.existsById(testPostId)).thenReturn(true);
-        when(commentRepo.findByPostId(testPostId)).thenReturn(comments);
-        when(userService.getUserById(testAuthorId)).thenReturn(testUserDTO);
+        when(hotPathReadRepo.findVisibleByPostId(testPostId)).thenReturn(comments);
+        when(userService.getUsersByIds(List.of(testAuthorId))).thenReturn(Map.of(testAuthorId, testUserDTO));
 
         // Act
         List<CommentDTO> result = commentService.getCommentsByPost(testPostId);
@@ -251,19 +360,20 @@ class CommentServiceTest {
     @Test
     void testDeleteComment_Success() {
         // Arrange
-        when(commentRepo.existsById(testCommentId)).thenReturn(true);
+        when(commentRepo.findById(testCommentId)).thenReturn(Optional.of(testComment));
 
         // Act
         commentService.deleteComment(testCommentId);
 
         // Assert
         verify(commentRepo, times(1)).deleteById(testCommentId);
+        verify(userStatsService, times(1)).recordCommentsRemoved(testAuthorId, 1);
     }
 
     @Test
     void testDeleteComment_CommentNotFound_ThrowsException() {
         // Arrange
-        when(commentRepo.existsById(testCommentId)).thenReturn(false);
+        when(commentRepo.findById(testCommentId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> commentService.deleteComment(testCommentId));
@@ -273,13 +383,13 @@ class CommentServiceTest {
     @Test
     void testDeleteComment_VerifyDeleteCalled() {
         // Arrange
-        when(commentRepo.existsById(testCommentId)).thenReturn(true);
+        when(commentRepo.findById(testCommentId)).thenReturn(Optional.of(testComment));
 
         // Act
         commentService.deleteComment(testCommentId);
 
         // Assert
-        verify(commentRepo, times(1)).existsById(testCommentId);
+        verify(commentRepo, times(1)).findById(testCommentId);
         verify(commentRepo, times(1)).deleteById(testCommentId);
     }
 }
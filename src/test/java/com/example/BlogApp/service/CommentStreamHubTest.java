@@ -0,0 +1,137 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.commentDTO.CommentDTO;
+import com.example.BlogApp.config.CommentStreamProperties;
+import com.example.BlogApp.config.CommentStreamProperties.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CommentStreamHub
+ * Tests subscriber registration and bounded buffer overflow policies; drains run only when the test releases them
+ */
+class CommentStreamHubTest {
+
+    private CommentStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Runnable> pendingDrains;
+    private CommentStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CommentStreamProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        pendingDrains = new ArrayList<>();
+        hub = new CommentStreamHub(properties, meterRegistry, pendingDrains::add);
+    }
+
+    @Test
+    void testSubscribe_TracksSubscriberCount() {
+        // Act
+        hub.subscribe(UUID.randomUUID());
+        hub.subscribe(UUID.randomUUID());
+
+        // Assert
+        assertEquals(2, hub.getSubscriberCount());
+        assertEquals(2, meterRegistry.get("comments.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void testOffer_DropOldest_KeepsNewestComments() {
+        // Arrange
+        CommentStreamHub.Subscriber subscriber = new CommentStreamHub.Subscriber(UUID.randomUUID(), new SseEmitter(), 2);
+
+        // Act
+        subscriber.offer(comment(), OverflowPolicy.DROP_OLDEST);
+        subscriber.offer(comment(), OverflowPolicy.DROP_OLDEST);
+        CommentStreamHub.OfferResult result = subscriber.offer(comment(), OverflowPolicy.DROP_OLDEST);
+
+        // Assert
+        assertEquals(CommentStreamHub.OfferResult.DROPPED, result);
+    }
+
+    @Test
+    void testOffer_DropNewest_DiscardsIncomingComment() {
+        // Arrange
+        CommentStreamHub.Subscriber subscriber = new CommentStreamHub.Subscriber(UUID.randomUUID(), new SseEmitter(), 1);
+        subscriber.offer(comment(), OverflowPolicy.DROP_NEWEST);
+
+        // Act
+        CommentStreamHub.OfferResult result = subscriber.offer(comment(), OverflowPolicy.DROP_NEWEST);
+
+        // Assert
+        assertEquals(CommentStreamHub.OfferResult.DROPPED, result);
+    }
+
+    @Test
+    void testOffer_Close_ReportsOverflow() {
+        // Arrange
+        CommentStreamHub.Subscriber subscriber = new CommentStreamHub.Subscriber(UUID.randomUUID(), new SseEmitter(), 1);
+        subscriber.offer(comment(), OverflowPolicy.CLOSE);
+
+        // Act
+        CommentStreamHub.OfferResult result = subscriber.offer(comment(), OverflowPolicy.CLOSE);
+
+        // Assert
+        assertEquals(CommentStreamHub.OfferResult.OVERFLOW, result);
+    }
+
+    @Test
+    void testPublish_DropNewest_DeliversOnlyWhatFitInBuffer() {
+        // Arrange
+        properties.setBufferSize(2);
+        properties.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        UUID postId = UUID.randomUUID();
+        hub.subscribe(postId);
+
+        // Act
+        hub.publish(comment(postId));
+        hub.publish(comment(postId));
+        hub.publish(comment(postId));
+        pendingDrains.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, pendingDrains.size());
+        assertEquals(1, meterRegistry.get("comments.stream.dropped").counter().count());
+        assertEquals(2, meterRegistry.get("comments.stream.delivered").counter().count());
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    void testPublish_OverflowWithClosePolicy_DisconnectsSubscriber() {
+        // Arrange
+        properties.setBufferSize(1);
+        properties.setOverflowPolicy(OverflowPolicy.CLOSE);
+        UUID postId = UUID.randomUUID();
+        hub.subscribe(postId);
+
+        // Act: the drain scheduled by the first publish is held back, so the buffer stays full
+        hub.publish(comment(postId));
+        hub.publish(comment(postId));
+        hub.publish(comment(postId));
+
+        // Assert
+        assertEquals(0, hub.getSubscriberCount());
+        assertEquals(1, meterRegistry.get("comments.stream.overflow.disconnects").counter().count());
+    }
+
+    private CommentDTO comment() {
+        return comment(UUID.randomUUID());
+    }
+
+    private CommentDTO comment(UUID postId) {
+        return CommentDTO.builder()
+                .id(UUID.randomUUID())
+                .content("Live comment")
+                .postId(postId)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.CompositeReadProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CompositeReads
+ * Tests concurrent execution, cancellation on failure and timeout, and security context and request propagation
+ */
+class CompositeReadsTest {
+
+    private CompositeReadProperties properties;
+    private ExecutorService executor;
+    private CompositeReads compositeReads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CompositeReadProperties();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        compositeReads = new CompositeReads(properties, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testJoin_RunsLookupsConcurrently() {
+        // Arrange: each lookup only completes once the other has started
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        // Act
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            Supplier<String> first = scope.fork(() -> {
+                barrier.await(5, TimeUnit.SECONDS);
+                return "post";
+            });
+            Supplier<String> second = scope.fork(() -> {
+                barrier.await(5, TimeUnit.SECONDS);
+                return "author";
+            });
+            scope.join();
+
+            // Assert
+            assertEquals("post", first.get());
+            assertEquals("author", second.get());
+        }
+    }
+
+    @Test
+    void testJoin_FirstFailure_CancelsSiblingsAndRethrows() throws InterruptedException {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ResourceNotFoundException failure = new ResourceNotFoundException("Post not found");
+
+        // Act
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            scope.fork(() -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(30));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            });
+            scope.fork(() -> {
+                throw failure;
+            });
+
+            // Assert
+            assertSame(failure, assertThrows(ResourceNotFoundException.class, scope::join));
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testJoin_Timeout_ThrowsCompletionException() {
+        // Arrange
+        properties.setTimeout(Duration.ofMillis(50));
+
+        // Act
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            scope.fork(() -> {
+                Thread.sleep(Duration.ofSeconds(30));
+                return null;
+            });
+
+            // Assert
+            CompletionException exception = assertThrows(CompletionException.class, scope::join);
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void testFork_PropagatesSecurityContext() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null));
+
+        // Act
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            Supplier<String> username = scope.fork(() -> SecurityContextHolder.getContext().getAuthentication().getName());
+            scope.join();
+
+            // Assert
+            assertEquals("alice", username.get());
+        }
+    }
+
+    @Test
+    void testFork_PropagatesRequestAttributes() {
+        // Arrange
+        ServletRequestAttributes request = new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/posts"));
+        RequestContextHolder.setRequestAttributes(request);
+
+        // Act
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            Supplier<RequestAttributes> attributes = scope.fork(RequestContextHolder::getRequestAttributes);
+            scope.join();
+
+            // Assert
+            assertSame(request, attributes.get());
+        }
+    }
+
+    @Test
+    void testOpen_ParallelDisabled_RunsOnCaller() {
+        // Arrange
+        properties.setParallel(false);
+        Thread caller = Thread.currentThread();
+
+        // Act
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            Supplier<Thread> thread = scope.fork(Thread::currentThread);
+            scope.join();
+
+            // Assert
+            assertSame(caller, thread.get());
+        }
+    }
+
+    @Test
+    void testFork_ResultReadBeforeJoin_ThrowsException() {
+        try (CompositeReads.Scope scope = compositeReads.open()) {
+            Supplier<String> result = scope.fork(() -> "post");
+
+            assertThrows(IllegalStateException.class, result::get);
+        }
+    }
+}
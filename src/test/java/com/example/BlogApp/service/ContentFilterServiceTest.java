@@ -0,0 +1,108 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.ContentFilterProperties;
+import com.example.BlogApp.exception.ContentRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ContentFilterService
+ * Tests banned term matching and reloading of the word list from disk
+ */
+class ContentFilterServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path wordList;
+    private ContentFilterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ContentFilterService contentFilterService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        wordList = tempDir.resolve("banned-words.txt");
+        Files.writeString(wordList, "# comment line\nspam\n\nscam\n");
+        properties = new ContentFilterProperties();
+        properties.setWordList(wordList.toUri().toString());
+        properties.setReloadInterval(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        contentFilterService = new ContentFilterService(properties, new DefaultResourceLoader(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contentFilterService.shutdown();
+    }
+
+    @Test
+    void testCheck_BannedTerm_ThrowsAndCounts() {
+        // Arrange
+        contentFilterService.init();
+
+        // Act & Assert
+        assertThrows(ContentRejectedException.class, () -> contentFilterService.check("Nice post", "Buy SPAM here"));
+        assertEquals(1, meterRegistry.get("content.filter.rejected").counter().count());
+    }
+
+    @Test
+    void testCheck_CleanTextAndNulls_Passes() {
+        // Arrange
+        contentFilterService.init();
+
+        // Act & Assert
+        assertDoesNotThrow(() -> contentFilterService.check("A spammer is not a whole-word match", null));
+        assertEquals(2, meterRegistry.get("content.filter.terms").gauge().value());
+    }
+
+    @Test
+    void testCheck_Disabled_SkipsLoadingAndMatching() {
+        // Arrange
+        properties.setEnabled(false);
+        contentFilterService.init();
+
+        // Act & Assert
+        assertDoesNotThrow(() -> contentFilterService.check("spam"));
+        assertEquals(0, meterRegistry.get("content.filter.terms").gauge().value());
+    }
+
+    @Test
+    void testReload_PicksUpChangedWordList() throws IOException {
+        // Arrange
+        contentFilterService.init();
+        Files.writeString(wordList, "phishing\n");
+
+        // Act
+        int terms = contentFilterService.reload();
+
+        // Assert
+        assertEquals(1, terms);
+        assertDoesNotThrow(() -> contentFilterService.check("spam"));
+        assertThrows(ContentRejectedException.class, () -> contentFilterService.check("a phishing link"));
+    }
+
+    @Test
+    void testReload_MissingWordList_KeepsCurrentTerms() throws IOException {
+        // Arrange
+        contentFilterService.init();
+        Files.delete(wordList);
+
+        // Act
+        int terms = contentFilterService.reload();
+
+        // Assert
+        assertEquals(2, terms);
+        assertThrows(ContentRejectedException.class, () -> contentFilterService.check("scam"));
+    }
+}
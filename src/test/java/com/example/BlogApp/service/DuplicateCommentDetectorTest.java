@@ -0,0 +1,130 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.DuplicateDetectionProperties;
+import com.example.BlogApp.exception.ContentRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DuplicateCommentDetector
+ * Tests per-author and global near-duplicate rejection and the time window
+ */
+class DuplicateCommentDetectorTest {
+
+    private static final String SPAM = "Check out my amazing crypto giveaway at example dot com, limited slots available today only!";
+    private static final String SPAM_VARIANT = "Check out my amazing crypto giveaway at example dot com, limited slots available today only!!";
+
+    private DuplicateDetectionProperties properties;
+    private MutableClock clock;
+    private DuplicateCommentDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DuplicateDetectionProperties();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        detector = new DuplicateCommentDetector(properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void testCheck_SameAuthorNearDuplicate_Rejected() {
+        UUID authorId = UUID.randomUUID();
+        submit(authorId, SPAM);
+
+        assertThrows(ContentRejectedException.class, () -> detector.check(authorId, SPAM_VARIANT));
+    }
+
+    @Test
+    void testCheck_DifferentContent_Accepted() {
+        UUID authorId = UUID.randomUUID();
+        submit(authorId, SPAM);
+
+        assertDoesNotThrow(() -> detector.check(authorId,
+                "I disagree with the second point, the benchmark numbers look off to me."));
+    }
+
+    @Test
+    void testCheck_NotRecorded_RetryAccepted() {
+        UUID authorId = UUID.randomUUID();
+        // Checked, but the save failed, so it was never recorded
+        detector.check(authorId, SPAM);
+
+        assertDoesNotThrow(() -> detector.check(authorId, SPAM));
+    }
+
+    @Test
+    void testCheck_GlobalThreshold_RejectsAcrossAuthors() {
+        properties.setGlobalThreshold(2);
+        submit(UUID.randomUUID(), SPAM);
+        submit(UUID.randomUUID(), SPAM_VARIANT);
+
+        assertThrows(ContentRejectedException.class, () -> detector.check(UUID.randomUUID(), SPAM));
+    }
+
+    @Test
+    void testCheck_ShortOrTextlessComments_NeverRejected() {
+        UUID authorId = UUID.randomUUID();
+        for (String content : new String[]{"Great post!", "\uD83D\uDC4D", "!!", "\uD83D\uDC4D", "!!", "Great post!"}) {
+            assertDoesNotThrow(() -> submit(authorId, content));
+        }
+    }
+
+    @Test
+    void testCheck_OutsideWindow_Accepted() {
+        UUID authorId = UUID.randomUUID();
+        submit(authorId, SPAM);
+
+        clock.advance(properties.getWindow().plus(Duration.ofSeconds(1)));
+
+        assertDoesNotThrow(() -> detector.check(authorId, SPAM_VARIANT));
+    }
+
+    @Test
+    void testCheck_Disabled_NeverRejects() {
+        properties.setEnabled(false);
+        UUID authorId = UUID.randomUUID();
+        submit(authorId, SPAM);
+
+        assertDoesNotThrow(() -> detector.check(authorId, SPAM));
+    }
+
+    private void submit(UUID authorId, String content) {
+        detector.check(authorId, content);
+        detector.record(authorId, content);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -2,16 +2,24 @@ package com.example.BlogApp.service;
 
 import com.example.BlogApp.DTO.postDTO.CreatePostRequest;
 import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.postDTO.PostDetailDTO;
 import com.example.BlogApp.DTO.postDTO.UpdatePostRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.config.CompositeReadProperties;
 import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.model.Comment;
 import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.PostDetail;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.repo.HotPathReadRepo;
 import com.example.BlogApp.repo.PostRepo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -40,6 +48,22 @@ class PostServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ContentFilterService contentFilterService;
+
+    @Mock
+    private CommentPurgeService commentPurgeService;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private HotPathReadRepo hotPathReadRepo;
+
+    // Lookups run inline on the test thread
+    @Spy
+    private CompositeReads compositeReads = new CompositeReads(new CompositeReadProperties(), Runnable::run);
+
     @Mock
     private SecurityContext securityContext;
 
@@ -82,7 +106,7 @@ class PostServiceTest {
     void testGetAllPosts_Success() {
         // Arrange
         Page<Post> postsPage = new PageImpl<>(Collections.singletonList(testPost));
-        when(postRepo.findByPublishedTrue(any(Pageable.class))).thenReturn(postsPage);
+        when(hotPathReadRepo.findPublishedFeed(any(Pageable.class))).thenReturn(postsPage);
 
         // Act
         Page<PostDTO> result = postService.getAllPosts(any(Pageable.class));
@@ -97,7 +121,6 @@ class PostServiceTest {
         // Arrange
         testPost.setViews(5);
         when(postRepo.findById(testPostId)).thenReturn(Optional.of(testPost));
-        when(postRepo.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(userService.getUserById(testAuthorId)).thenReturn(testUserDTO);
 
         // Act
@@ -105,8 +128,23 @@ class PostServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals(6, testPost.getViews());
-        verify(postRepo, times(1)).save(any(Post.class));
+        assertEquals(6, result.getViews());
+        assertEquals(testUserDTO, result.getAuthor());
+        verify(postRepo, times(1)).incrementViews(testPostId);
+        verify(postRepo, never()).save(any(Post.class));
+        verify(userStatsService, times(1)).recordPostViewed(testAuthorId);
+    }
+
+    @Test
+    void testGetPostById_AuthorLookupFails_ViewStillCounted() {
+        // Arrange
+        when(postRepo.findById(testPostId)).thenReturn(Optional.of(testPost));
+        when(userService.getUserById(testAuthorId)).thenThrow(new ResourceNotFoundException("User not found"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> postService.getPostById(testPostId));
+        verify(postRepo, times(1)).incrementViews(testPostId);
+        verify(userStatsService, times(1)).recordPostViewed(testAuthorId);
     }
 
     @Test
@@ -118,6 +156,45 @@ class PostServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> postService.getPostById(testPostId));
     }
 
+    @Test
+    void testGetPostDetail_MapsAggregationAndCountsView() {
+        // Arrange
+        testPost.setViews(5);
+        User author = User.builder().id(testAuthorId).username("testuser").build();
+        User commenter = User.builder().id(UUID.randomUUID()).username("commenter").build();
+        Comment comment = Comment.builder().id(UUID.randomUUID()).content("Nice post").authorId(commenter.getId()).postId(testPostId).build();
+        PostDetail detail = PostDetail.builder()
+                .post(testPost)
+                .author(author)
+                .commentCount(12)
+                .comments(List.of(comment))
+                .commentAuthors(Map.of(commenter.getId(), commenter))
+                .build();
+        when(postRepo.findDetail(testPostId, PostService.MAX_DETAIL_COMMENTS)).thenReturn(Optional.of(detail));
+
+        // Act
+        PostDetailDTO result = postService.getPostDetail(testPostId, 1000);
+
+        // Assert
+        assertEquals(6, result.getPost().getViews());
+        assertEquals("testuser", result.getPost().getAuthor().getUsername());
+        assertEquals(12, result.getCommentCount());
+        assertEquals("commenter", result.getComments().get(0).getAuthor().getUsername());
+        verify(postRepo, times(1)).incrementViews(testPostId);
+        verify(userStatsService, times(1)).recordPostViewed(testAuthorId);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void testGetPostDetail_PostNotFound_ThrowsException() {
+        // Arrange
+        when(postRepo.findDetail(testPostId, 20)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> postService.getPostDetail(testPostId, 20));
+        verify(postRepo, never()).incrementViews(any(UUID.class));
+    }
+
     // ==================== Create Post Tests ====================
 
     @Test
@@ -229,22 +306,28 @@ class PostServiceTest {
     @Test
     void testDeletePost_Success() {
         // Arrange
-        when(postRepo.existsById(testPostId)).thenReturn(true);
+        when(postRepo.findById(testPostId)).thenReturn(Optional.of(testPost));
 
         // Act
         postService.deletePost(testPostId);
 
         // Assert
-        verify(postRepo, times(1)).deleteById(testPostId);
+        InOrder inOrder = inOrder(commentPurgeService, postRepo);
+        inOrder.verify(commentPurgeService).markForPurge(testPostId);
+        inOrder.verify(postRepo).deleteById(testPostId);
+        inOrder.verify(commentPurgeService).enqueue(testPostId);
+        verify(userStatsService, times(1)).recordPostDeleted(testPost);
     }
 
     @Test
     void testDeletePost_PostNotFound_ThrowsException() {
         // Arrange
-        when(postRepo.existsById(testPostId)).thenReturn(false);
+        when(postRepo.findById(testPostId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> postService.deletePost(testPostId));
+        verifyNoInteractions(commentPurgeService);
+        verifyNoInteractions(userStatsService);
     }
 
     // ==================== Publish/Unpublish Tests ====================
@@ -263,6 +346,22 @@ class PostServiceTest {
         // Assert
         assertTrue(result.isPublished());
         verify(postRepo, times(1)).save(any(Post.class));
+        verify(userStatsService, times(1)).recordPostPublished(testAuthorId, true);
+    }
+
+    @Test
+    void testPublishPost_AlreadyPublished_StatsUnchanged() {
+        // Arrange
+        testPost.setPublished(true);
+        when(postRepo.findById(testPostId)).thenReturn(Optional.of(testPost));
+        when(postRepo.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userService.getUserById(testAuthorId)).thenReturn(testUserDTO);
+
+        // Act
+        postService.publishPost(testPostId);
+
+        // Assert
+        verifyNoInteractions(userStatsService);
     }
 
     @Test
@@ -279,6 +378,7 @@ class PostServiceTest {
         // Assert
         assertFalse(result.isPublished());
         verify(postRepo, times(1)).save(any(Post.class));
+        verify(userStatsService, times(1)).recordPostPublished(testAuthorId, false);
     }
 
     @Test
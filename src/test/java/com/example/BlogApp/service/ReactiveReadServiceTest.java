@@ -0,0 +1,249 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.postDTO.PostDTO;
+import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.config.ReactiveReadProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.model.UserPrinciple;
+import com.example.BlogApp.repo.ReactiveCommentRepo;
+import com.example.BlogApp.repo.ReactivePostRepo;
+import com.example.BlogApp.repo.ReactiveUserRepo;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveReadService
+ * Tests the non-blocking reads, view checks and batched author hydration
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadServiceTest {
+
+    @Mock
+    private ReactivePostRepo postRepo;
+
+    @Mock
+    private ReactiveCommentRepo commentRepo;
+
+    @Mock
+    private ReactiveUserRepo userRepo;
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    private UserDTOCache userDTOCache;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Spy
+    private ReactiveReadProperties properties = new ReactiveReadProperties();
+
+    @InjectMocks
+    private ReactiveReadService readService;
+
+    private UUID authorId;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        authorId = UUID.randomUUID();
+        author = User.builder().id(authorId).username("author").roles(Set.of("USER")).build();
+    }
+
+    @Test
+    void testGetAllPosts_HydratesAuthorsWithOneLookup() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(postRepo.findByPublishedTrueOrderByCreatedAtDesc(pageable)).thenReturn(Flux.just(post(true), post(true)));
+        when(postRepo.countByPublishedTrue()).thenReturn(Mono.just(12L));
+        when(userRepo.findAllByIdIn(List.of(authorId))).thenReturn(Flux.just(author));
+
+        // Act & Assert
+        StepVerifier.create(readService.getAllPosts(pageable))
+                .assertNext(page -> {
+                    assertEquals(12, page.getTotalElements());
+                    assertEquals(2, page.getContent().size());
+                    assertEquals("author", page.getContent().getFirst().getAuthor().getUsername());
+                })
+                .verifyComplete();
+        verify(userRepo, times(1)).findAllByIdIn(anyCollection());
+        verify(userDTOCache).put(any(UserDTO.class));
+    }
+
+    @Test
+    void testStreamFeed_CachedAuthors_SkipUserLookup() {
+        // Arrange
+        properties.setPrefetch(2);
+        List<Post> posts = IntStream.range(0, 5).mapToObj(i -> post(true)).toList();
+        when(postRepo.findByPublishedTrueOrderByCreatedAtDesc(PageRequest.of(0, 5))).thenReturn(Flux.fromIterable(posts));
+        when(userDTOCache.getIfPresent(authorId)).thenReturn(UserDTO.builder().id(authorId).username("author").build());
+
+        // Act & Assert
+        StepVerifier.create(readService.streamFeed(5), 1)
+                .expectNextCount(1)
+                .thenRequest(4)
+                .expectNextCount(4)
+                .verifyComplete();
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    void testStreamFeed_LimitClampedToMaxStreamSize() {
+        // Arrange
+        properties.setMaxStreamSize(50);
+        when(postRepo.findByPublishedTrueOrderByCreatedAtDesc(any(Pageable.class))).thenReturn(Flux.empty());
+
+        // Act
+        StepVerifier.create(readService.streamFeed(10_000)).verifyComplete();
+
+        // Assert
+        verify(postRepo).findByPublishedTrueOrderByCreatedAtDesc(PageRequest.of(0, 50));
+    }
+
+    @Test
+    void testGetPostById_Published_IncrementsViews() {
+        // Arrange
+        Post post = post(true);
+        when(postRepo.findById(post.getId())).thenReturn(Mono.just(post));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Post.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        when(userRepo.findAllByIdIn(List.of(authorId))).thenReturn(Flux.just(author));
+
+        // Act & Assert
+        StepVerifier.create(readService.getPostById(post.getId()))
+                .assertNext(dto -> {
+                    assertEquals(1, dto.getViews());
+                    assertEquals(authorId, dto.getAuthor().getId());
+                })
+                .verifyComplete();
+        verify(userStatsService).recordPostViewed(authorId);
+    }
+
+    @Test
+    void testGetPostById_NotFound_ThrowsException() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        when(postRepo.findById(postId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(readService.getPostById(postId))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        verifyNoInteractions(mongoTemplate, userStatsService);
+    }
+
+    @Test
+    void testGetPostById_UnpublishedByOtherUser_AccessDenied() {
+        // Arrange
+        Post post = post(false);
+        when(postRepo.findById(post.getId())).thenReturn(Mono.just(post));
+        User other = User.builder().id(UUID.randomUUID()).username("other").roles(Set.of("USER")).build();
+
+        // Act
+        Mono<PostDTO> result = readService.getPostById(post.getId())
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authenticated(other)));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(AccessDeniedException.class)
+                .verify();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void testGetPostById_UnpublishedByAuthor_Success() {
+        // Arrange
+        Post post = post(false);
+        when(postRepo.findById(post.getId())).thenReturn(Mono.just(post));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Post.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        when(userRepo.findAllByIdIn(List.of(authorId))).thenReturn(Flux.just(author));
+
+        // Act
+        Mono<PostDTO> result = readService.getPostById(post.getId())
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authenticated(author)));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(dto -> assertFalse(dto.isPublished()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetCommentsByPost_Success() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Comment comment = Comment.builder().id(UUID.randomUUID()).postId(postId).authorId(authorId).content("Nice").build();
+        when(postRepo.existsById(postId)).thenReturn(Mono.just(true));
+        when(commentRepo.findByPostIdAndHiddenNot(postId, true)).thenReturn(Flux.just(comment));
+        when(userRepo.findAllByIdIn(List.of(authorId))).thenReturn(Flux.just(author));
+
+        // Act & Assert
+        StepVerifier.create(readService.getCommentsByPost(postId))
+                .assertNext(comments -> {
+                    assertEquals(1, comments.size());
+                    assertEquals("Nice", comments.getFirst().getContent());
+                    assertEquals("author", comments.getFirst().getAuthor().getUsername());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetCommentsByPost_PostNotFound_ThrowsException() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        when(postRepo.existsById(postId)).thenReturn(Mono.just(false));
+        when(commentRepo.findByPostIdAndHiddenNot(postId, true)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(readService.getCommentsByPost(postId))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        verifyNoInteractions(userRepo);
+    }
+
+    private Post post(boolean published) {
+        Post post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setTitle("Test Post");
+        post.setContent("Test content");
+        post.setAuthorId(authorId);
+        post.setPublished(published);
+        return post;
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticated(User user) {
+        UserPrinciple principal = new UserPrinciple(user);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.config.UserCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserDTOCache
+ * Tests id and username lookups, bulk loading of misses, eviction, expiry and hit metrics
+ */
+class UserDTOCacheTest {
+
+    private UserCacheProperties properties;
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private UserDTOCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserCacheProperties();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDTOCache(properties, meterRegistry, clock);
+    }
+
+    @Test
+    void testPut_LookupByIdAndUsername() {
+        UserDTO user = user("alice");
+        cache.put(user);
+
+        assertSame(user, cache.getIfPresent(user.getId()));
+        assertSame(user, cache.getIfPresent("alice"));
+    }
+
+    @Test
+    void testGetIfPresent_UsernameIgnoresCase() {
+        UserDTO user = user("Alice");
+        cache.put(user);
+
+        assertSame(user, cache.getIfPresent("alice"));
+        assertSame(user, cache.getIfPresent("ALICE"));
+    }
+
+    @Test
+    void testInvalidate_RemovesUsernameIndex() {
+        UserDTO user = user("alice");
+        cache.put(user);
+
+        cache.invalidate(user.getId());
+
+        assertNull(cache.getIfPresent(user.getId()));
+        assertNull(cache.getIfPresent("alice"));
+    }
+
+    @Test
+    void testPut_RenamedUser_DropsOldUsername() {
+        UserDTO user = user("alice");
+        cache.put(user);
+
+        cache.put(UserDTO.builder().id(user.getId()).username("alice2").build());
+
+        assertNull(cache.getIfPresent("alice"));
+        assertEquals("alice2", cache.getIfPresent("alice2").getUsername());
+    }
+
+    @Test
+    void testGetAll_LoadsOnlyMisses() {
+        UserDTO cached = user("alice");
+        UserDTO uncached = user("bob");
+        cache.put(cached);
+        List<Collection<UUID>> loaderCalls = new ArrayList<>();
+
+        Map<UUID, UserDTO> result = cache.getAll(List.of(cached.getId(), uncached.getId(), cached.getId()), missing -> {
+            loaderCalls.add(missing);
+            return List.of(uncached);
+        });
+
+        assertEquals(2, result.size());
+        assertEquals(List.of(List.of(uncached.getId())), loaderCalls);
+        assertSame(uncached, cache.getIfPresent(uncached.getId()));
+    }
+
+    @Test
+    void testGetAll_AllCached_DoesNotCallLoader() {
+        UserDTO cached = user("alice");
+        cache.put(cached);
+
+        Map<UUID, UserDTO> result = cache.getAll(List.of(cached.getId()), missing -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        assertSame(cached, result.get(cached.getId()));
+    }
+
+    @Test
+    void testPut_OverCapacity_EvictsLeastRecentlyUsed() {
+        properties.setMaxSize(2);
+        UserDTO first = user("first");
+        UserDTO second = user("second");
+        cache.put(first);
+        cache.put(second);
+        cache.getIfPresent(first.getId());
+
+        cache.put(user("third"));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.getIfPresent(second.getId()));
+        assertNull(cache.getIfPresent("second"));
+        assertNotNull(cache.getIfPresent(first.getId()));
+    }
+
+    @Test
+    void testGetIfPresent_AfterTtl_ReturnsNull() {
+        properties.setTtl(Duration.ofMinutes(1));
+        UserDTO user = user("alice");
+        cache.put(user);
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertNull(cache.getIfPresent(user.getId()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testDisabled_NeverCaches() {
+        properties.setEnabled(false);
+        UserDTO user = user("alice");
+        cache.put(user);
+
+        assertNull(cache.getIfPresent(user.getId()));
+    }
+
+    @Test
+    void testMetrics_CountHitsAndMisses() {
+        UserDTO user = user("alice");
+        cache.getIfPresent(user.getId());
+        cache.put(user);
+        cache.getIfPresent(user.getId());
+        cache.getIfPresent("alice");
+
+        assertEquals(2.0, meterRegistry.get("users.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("users.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    private static UserDTO user(String username) {
+        return UserDTO.builder()
+                .id(UUID.randomUUID())
+                .username(username)
+                .email(username + "@example.com")
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.UserDeletionProperties;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.repo.CommentRepo;
+import com.example.BlogApp.repo.PostRepo;
+import com.example.BlogApp.repo.UserRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserDeletionService
+ * Cleanup runs inline on the calling thread so each batch can be verified directly
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDeletionServiceTest {
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private PostRepo postRepo;
+
+    @Mock
+    private CommentRepo commentRepo;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    private List<Runnable> tasks;
+    private UserDeletionService deletionService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        UserDeletionProperties properties = new UserDeletionProperties();
+        properties.setBatchSize(2);
+        properties.setPauseBetweenBatches(Duration.ZERO);
+        tasks = new ArrayList<>();
+        deletionService = new UserDeletionService(userRepo, postRepo, commentRepo, userStatsService, properties, tasks::add);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void testEnqueue_RemovesCommentsPostsThenUser() {
+        // Arrange
+        List<UUID> authoredComments = List.of(UUID.randomUUID());
+        List<UUID> posts = List.of(UUID.randomUUID());
+        UUID otherAuthor = UUID.randomUUID();
+        List<Comment> commentsOnPosts = List.of(commentBy(otherAuthor), commentBy(otherAuthor));
+        when(commentRepo.findIdsByAuthor(userId, null, null, false, 2)).thenReturn(authoredComments);
+        when(postRepo.findIdsByAuthor(userId, 2)).thenReturn(posts);
+        when(commentRepo.findAuthorRefsByPostIds(posts, 2)).thenReturn(commentsOnPosts, List.of());
+        when(commentRepo.deleteByIdIn(anyCollection())).thenAnswer(invocation -> (long) invocation.<List<UUID>>getArgument(0).size());
+        when(postRepo.deleteByIdIn(posts)).thenReturn(1L);
+
+        // Act
+        deletionService.enqueue(userId);
+        tasks.forEach(Runnable::run);
+
+        // Assert
+        InOrder inOrder = inOrder(commentRepo, postRepo, userRepo);
+        inOrder.verify(commentRepo).deleteByIdIn(authoredComments);
+        inOrder.verify(commentRepo).deleteByIdIn(commentsOnPosts.stream().map(Comment::getId).toList());
+        inOrder.verify(postRepo).deleteByIdIn(posts);
+        inOrder.verify(userRepo).deleteById(userId);
+        verify(userStatsService).recordCommentsRemoved(commentsOnPosts);
+        verify(userStatsService).deleteStats(userId);
+    }
+
+    @Test
+    void testEnqueue_Failure_KeepsUserForResume() {
+        // Arrange
+        when(commentRepo.findIdsByAuthor(any(UUID.class), any(), any(), anyBoolean(), anyInt()))
+                .thenThrow(new RuntimeException("Database error"));
+
+        // Act
+        deletionService.enqueue(userId);
+        tasks.forEach(Runnable::run);
+
+        // Assert
+        verify(userRepo, never()).deleteById(any(UUID.class));
+        verify(userStatsService, never()).deleteStats(any(UUID.class));
+    }
+
+    @Test
+    void testResumePending_AfterFailure_QueuesUserAgain() {
+        // Arrange
+        when(commentRepo.findIdsByAuthor(any(UUID.class), any(), any(), anyBoolean(), anyInt()))
+                .thenThrow(new RuntimeException("Database error"));
+        when(userRepo.findDeletedIds()).thenReturn(List.of(userId));
+        deletionService.enqueue(userId);
+        tasks.removeFirst().run();
+
+        // Act
+        deletionService.resumePending();
+
+        // Assert
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void testStartResuming_SchedulesPeriodicRescan() {
+        // Arrange
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        UserDeletionProperties properties = new UserDeletionProperties();
+        properties.setResumeInterval(Duration.ofMinutes(5));
+        UserDeletionService service = new UserDeletionService(userRepo, postRepo, commentRepo, userStatsService, properties, scheduler);
+
+        // Act
+        service.startResuming();
+
+        // Assert
+        verify(userRepo).findDeletedIds();
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(300_000L), eq(300_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testEnqueue_SameUserTwice_QueuesOnce() {
+        deletionService.enqueue(userId);
+        deletionService.enqueue(userId);
+
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void testResumePending_QueuesFlaggedUsers() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        when(userRepo.findDeletedIds()).thenReturn(List.of(userId, otherId));
+
+        // Act
+        deletionService.resumePending();
+
+        // Assert
+        assertEquals(2, tasks.size());
+    }
+
+    private static Comment commentBy(UUID authorId) {
+        Comment comment = new Comment();
+        comment.setId(UUID.randomUUID());
+        comment.setAuthorId(authorId);
+        return comment;
+    }
+}
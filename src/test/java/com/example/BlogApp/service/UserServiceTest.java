@@ -1,7 +1,10 @@
 package com.example.BlogApp.service;
 
+import com.example.BlogApp.DTO.CursorPage;
 import com.example.BlogApp.DTO.userDTO.UpdateUserRequest;
 import com.example.BlogApp.DTO.userDTO.UserDTO;
+import com.example.BlogApp.DTO.userDTO.UserSummaryDTO;
+import com.example.BlogApp.config.UserSearchProperties;
 import com.example.BlogApp.exception.ResourceNotFoundException;
 import com.example.BlogApp.model.User;
 import com.example.BlogApp.repo.UserRepo;
@@ -11,16 +14,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -36,6 +50,18 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Mock
+    private UserDTOCache userDTOCache;
+
+    @Mock
+    private UserDeletionService userDeletionService;
+
+    @Mock
+    private UsernamePrefixIndex usernamePrefixIndex;
+
+    @Mock
+    private UserSearchProperties userSearchProperties;
+
     @InjectMocks
     private UserService userService;
 
@@ -105,6 +131,125 @@ class UserServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> userService.getUserByUsername("nonexistent"));
     }
 
+    @Test
+    void testGetUserById_CacheHit_SkipsRepository() {
+        // Arrange
+        UserDTO cached = UserDTO.builder().id(testUserId).username("testuser").build();
+        when(userDTOCache.getIfPresent(testUserId)).thenReturn(cached);
+
+        // Act
+        UserDTO result = userService.getUserById(testUserId);
+
+        // Assert
+        assertSame(cached, result);
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    void testGetUserById_CacheMiss_PopulatesCache() {
+        // Arrange
+        when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDTO result = userService.getUserById(testUserId);
+
+        // Assert
+        verify(userDTOCache, times(1)).put(result);
+    }
+
+    @Test
+    void testGetUserByUsername_CacheHit_SkipsRepository() {
+        // Arrange
+        UserDTO cached = UserDTO.builder().id(testUserId).username("testuser").build();
+        when(userDTOCache.getIfPresent("testuser")).thenReturn(cached);
+
+        // Act
+        UserDTO result = userService.getUserByUsername("testuser");
+
+        // Assert
+        assertSame(cached, result);
+        verify(userRepo, never()).findByUsername(anyString());
+    }
+
+    @Test
+    void testGetUsersByIds_LoadsMissesThroughCache() {
+        // Arrange
+        List<UUID> ids = List.of(testUserId);
+        when(userRepo.findAllByIdIn(ids)).thenReturn(List.of(testUser));
+        when(userDTOCache.getAll(eq(ids), any())).thenAnswer(invocation -> {
+            Function<Collection<UUID>, Collection<UserDTO>> loader = invocation.getArgument(1);
+            return loader.apply(ids).stream().collect(Collectors.toMap(UserDTO::getId, user -> user));
+        });
+
+        // Act
+        Map<UUID, UserDTO> result = userService.getUsersByIds(ids);
+
+        // Assert
+        assertEquals("testuser", result.get(testUserId).getUsername());
+        verify(userRepo, times(1)).findAllByIdIn(ids);
+    }
+
+    @Test
+    void testGetUsersBatch_KeepsRequestOrderAndSkipsUnknown() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        List<UUID> ids = List.of(otherId, unknownId, testUserId, otherId);
+        UserDTO other = UserDTO.builder().id(otherId).username("other").build();
+        UserDTO user = UserDTO.builder().id(testUserId).username("testuser").build();
+        when(userDTOCache.getAll(eq(ids), any())).thenReturn(Map.of(otherId, other, testUserId, user));
+
+        // Act
+        List<UserSummaryDTO> result = userService.getUsersBatch(ids);
+
+        // Assert
+        assertEquals(List.of(otherId, testUserId), result.stream().map(UserSummaryDTO::getId).toList());
+        assertEquals("other", result.getFirst().getUsername());
+    }
+
+    // ==================== Username Prefix Search Tests ====================
+
+    @Test
+    void testSearchByUsernamePrefix_IndexReady_UsesIndex() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        UserDTO other = UserDTO.builder().id(otherId).username("testuser2").build();
+        UserDTO user = UserDTO.builder().id(testUserId).username("testuser").build();
+        when(userSearchProperties.getMaxResults()).thenReturn(50);
+        when(usernamePrefixIndex.isReady()).thenReturn(true);
+        when(usernamePrefixIndex.search("test", 10)).thenReturn(List.of(testUserId, otherId));
+        when(userDTOCache.getAll(eq(List.of(testUserId, otherId)), any())).thenReturn(Map.of(otherId, other, testUserId, user));
+
+        // Act
+        List<UserSummaryDTO> result = userService.searchByUsernamePrefix("test", 10);
+
+        // Assert
+        assertEquals(List.of(testUserId, otherId), result.stream().map(UserSummaryDTO::getId).toList());
+        verify(userRepo, never()).findByUsernamePrefix(anyString(), anyInt());
+    }
+
+    @Test
+    void testSearchByUsernamePrefix_IndexNotReady_QueriesDatabase() {
+        // Arrange
+        when(userSearchProperties.getMaxResults()).thenReturn(50);
+        when(usernamePrefixIndex.isReady()).thenReturn(false);
+        when(userRepo.findByUsernamePrefix("test", 50)).thenReturn(List.of(testUser));
+
+        // Act
+        List<UserSummaryDTO> result = userService.searchByUsernamePrefix("test", 500);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("testuser", result.getFirst().getUsername());
+        verify(usernamePrefixIndex, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    void testSearchByUsernamePrefix_BlankPrefix_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> userService.searchByUsernamePrefix(" ", 10));
+        verifyNoInteractions(usernamePrefixIndex);
+    }
+
     // ==================== Update User Profile Tests ====================
 
     @Test
@@ -112,10 +257,10 @@ class UserServiceTest {
         // Arrange
         UpdateUserRequest request = new UpdateUserRequest();
         request.setUsername("newusername");
+        testUser.setUsername("newusername");
 
-        when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepo.existsByUsername("newusername")).thenReturn(false);
-        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepo.updateProfile(eq(testUserId), eq("newusername"), isNull(), isNull(), any(Instant.class)))
+                .thenReturn(testUser);
 
         // Act
         UserDTO result = userService.updateUserProfile(testUserId, request);
@@ -123,7 +268,11 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("newusername", result.getUsername());
-        verify(userRepo, times(1)).save(any(User.class));
+        verify(userRepo, never()).findById(any(UUID.class));
+        verify(userRepo, never()).existsByUsername(anyString());
+        verify(userRepo, never()).save(any(User.class));
+        verify(userDTOCache, times(1)).invalidate(testUserId);
+        verify(usernamePrefixIndex, times(1)).put(testUserId, "newusername");
     }
 
     @Test
@@ -131,10 +280,10 @@ class UserServiceTest {
         // Arrange
         UpdateUserRequest request = new UpdateUserRequest();
         request.setEmail("newemail@example.com");
+        testUser.setEmail("newemail@example.com");
 
-        when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepo.existsByEmail("newemail@example.com")).thenReturn(false);
-        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepo.updateProfile(eq(testUserId), isNull(), eq("newemail@example.com"), isNull(), any(Instant.class)))
+                .thenReturn(testUser);
 
         // Act
         UserDTO result = userService.updateUserProfile(testUserId, request);
@@ -142,6 +291,7 @@ class UserServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals("newemail@example.com", result.getEmail());
+        verify(userRepo, never()).existsByEmail(anyString());
     }
 
     @Test
@@ -152,8 +302,8 @@ class UserServiceTest {
 
         String encodedPassword = "encoded_password_hash";
         when(bCryptPasswordEncoder.encode("newpassword123")).thenReturn(encodedPassword);
-        when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepo.updateProfile(eq(testUserId), isNull(), isNull(), eq(encodedPassword), any(Instant.class)))
+                .thenReturn(testUser);
 
         // Act
         UserDTO result = userService.updateUserProfile(testUserId, request);
@@ -169,11 +319,12 @@ class UserServiceTest {
         UpdateUserRequest request = new UpdateUserRequest();
         request.setUsername("existinguser");
 
-        when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepo.existsByUsername("existinguser")).thenReturn(true);
+        when(userRepo.updateProfile(eq(testUserId), eq("existinguser"), isNull(), isNull(), any(Instant.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: blog.users index: username_1 dup key: { username: \"existinguser\" }"));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> userService.updateUserProfile(testUserId, request));
+        assertThrows(DuplicateKeyException.class, () -> userService.updateUserProfile(testUserId, request));
+        verify(userDTOCache, never()).invalidate(any(UUID.class));
     }
 
     @Test
@@ -182,11 +333,11 @@ class UserServiceTest {
         UpdateUserRequest request = new UpdateUserRequest();
         request.setEmail("existing@example.com");
 
-        when(userRepo.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepo.existsByEmail("existing@example.com")).thenReturn(true);
+        when(userRepo.updateProfile(eq(testUserId), isNull(), eq("existing@example.com"), isNull(), any(Instant.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: blog.users index: email_1 dup key: { email: \"existing@example.com\" }"));
 
         // Act & Assert
-        assertThrows(IllegalArgumentException.class, () -> userService.updateUserProfile(testUserId, request));
+        assertThrows(DuplicateKeyException.class, () -> userService.updateUserProfile(testUserId, request));
     }
 
     @Test
@@ -195,7 +346,8 @@ class UserServiceTest {
         UpdateUserRequest request = new UpdateUserRequest();
         request.setUsername("newusername");
 
-        when(userRepo.findById(testUserId)).thenReturn(Optional.empty());
+        when(userRepo.updateProfile(eq(testUserId), eq("newusername"), isNull(), isNull(), any(Instant.class)))
+                .thenReturn(null);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> userService.updateUserProfile(testUserId, request));
@@ -207,29 +359,33 @@ class UserServiceTest {
     void testGetAllUsers_Success() {
         // Arrange
         List<User> users = Arrays.asList(testUser);
-        when(userRepo.findAll()).thenReturn(users);
+        when(userRepo.findPageAfter(null, 51)).thenReturn(users);
 
         // Act
-        List<UserDTO> result = userService.getAllUsers();
+        CursorPage<UserDTO> result = userService.getAllUsers(null, 50);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(testUser.getUsername(), result.get(0).getUsername());
-        verify(userRepo, times(1)).findAll();
+        assertEquals(1, result.getItems().size());
+        assertEquals(testUser.getUsername(), result.getItems().get(0).getUsername());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+        verify(userRepo, times(1)).findPageAfter(null, 51);
+        verify(userRepo, never()).findAll();
     }
 
     @Test
     void testGetAllUsers_EmptyList() {
         // Arrange
-        when(userRepo.findAll()).thenReturn(Arrays.asList());
+        when(userRepo.findPageAfter(null, 51)).thenReturn(Arrays.asList());
 
         // Act
-        List<UserDTO> result = userService.getAllUsers();
+        CursorPage<UserDTO> result = userService.getAllUsers(null, 50);
 
         // Assert
         assertNotNull(result);
-        assertEquals(0, result.size());
+        assertEquals(0, result.getItems().size());
+        assertFalse(result.isHasMore());
     }
 
     @Test
@@ -240,14 +396,50 @@ class UserServiceTest {
         user2.setUsername("user2");
         user2.setEmail("user2@example.com");
 
+        UUID cursor = UUID.randomUUID();
         List<User> users = Arrays.asList(testUser, user2);
-        when(userRepo.findAll()).thenReturn(users);
+        when(userRepo.findPageAfter(cursor, 2)).thenReturn(users);
 
         // Act
-        List<UserDTO> result = userService.getAllUsers();
+        CursorPage<UserDTO> result = userService.getAllUsers(cursor, 1);
 
         // Assert
-        assertEquals(2, result.size());
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasMore());
+        assertEquals(testUserId.toString(), result.getNextCursor());
+    }
+
+    @Test
+    void testGetAllUsers_LimitIsClamped() {
+        // Arrange
+        when(userRepo.findPageAfter(null, 501)).thenReturn(Arrays.asList());
+
+        // Act
+        userService.getAllUsers(null, 100_000);
+
+        // Assert
+        verify(userRepo, times(1)).findPageAfter(null, 501);
+    }
+
+    // ==================== Export Users Tests ====================
+
+    @Test
+    void testExportUsers_StreamsEveryUser() {
+        // Arrange
+        User user2 = new User();
+        user2.setId(UUID.randomUUID());
+        user2.setUsername("user2");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(userRepo.streamAll()).thenReturn(Stream.of(testUser, user2).onClose(() -> closed.set(true)));
+        List<UserDTO> exported = new ArrayList<>();
+
+        // Act
+        long count = userService.exportUsers(exported::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(List.of("testuser", "user2"), exported.stream().map(UserDTO::getUsername).toList());
+        assertTrue(closed.get());
     }
 
     // ==================== Delete User Tests ====================
@@ -255,35 +447,37 @@ class UserServiceTest {
     @Test
     void testDeleteUser_Success() {
         // Arrange
-        when(userRepo.existsById(testUserId)).thenReturn(true);
+        when(userRepo.markDeleted(eq(testUserId), any(Instant.class))).thenReturn(true);
 
         // Act
         userService.deleteUser(testUserId);
 
         // Assert
-        verify(userRepo, times(1)).deleteById(testUserId);
+        verify(userDeletionService, times(1)).enqueue(testUserId);
+        verify(userDTOCache, times(1)).invalidate(testUserId);
+        verify(usernamePrefixIndex, times(1)).remove(testUserId);
     }
 
     @Test
     void testDeleteUser_UserNotFound_ThrowsException() {
         // Arrange
-        when(userRepo.existsById(testUserId)).thenReturn(false);
+        when(userRepo.markDeleted(eq(testUserId), any(Instant.class))).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser(testUserId));
+        verify(userDeletionService, never()).enqueue(any(UUID.class));
     }
 
     @Test
-    void testDeleteUser_VerifyDeleteCalled() {
+    void testDeleteUser_OnlyMarksUserAsDeleted() {
         // Arrange
-        when(userRepo.existsById(testUserId)).thenReturn(true);
+        when(userRepo.markDeleted(eq(testUserId), any(Instant.class))).thenReturn(true);
 
         // Act
         userService.deleteUser(testUserId);
 
         // Assert
-        verify(userRepo, times(1)).existsById(testUserId);
-        verify(userRepo, times(1)).deleteById(testUserId);
+        verify(userRepo, times(1)).markDeleted(eq(testUserId), any(Instant.class));
+        verify(userRepo, never()).deleteById(any(UUID.class));
     }
 }
-
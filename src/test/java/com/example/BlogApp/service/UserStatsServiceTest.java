@@ -0,0 +1,184 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.DTO.userDTO.UserStatsDTO;
+import com.example.BlogApp.config.UserStatsProperties;
+import com.example.BlogApp.exception.ResourceNotFoundException;
+import com.example.BlogApp.model.Comment;
+import com.example.BlogApp.model.Post;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.model.UserStats;
+import com.example.BlogApp.repo.UserRepo;
+import com.example.BlogApp.repo.UserStatsRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserStatsService
+ * The repair job runs inline on the calling thread so each batch can be verified directly
+ */
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceTest {
+
+    @Mock
+    private UserStatsRepo userStatsRepo;
+
+    @Mock
+    private UserRepo userRepo;
+
+    private List<Runnable> repairs;
+    private UserStatsService statsService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        UserStatsProperties properties = new UserStatsProperties();
+        properties.setRepairBatchSize(2);
+        properties.setRepairParallelism(2);
+        repairs = new ArrayList<>();
+        statsService = new UserStatsService(userStatsRepo, userRepo, properties, repairs::add, Runnable::run);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void testGetStats_ReturnsStoredCounters() {
+        // Arrange
+        UserStats stats = UserStats.builder()
+                .userId(userId)
+                .postCount(3)
+                .publishedCount(2)
+                .commentCount(5)
+                .totalViews(42)
+                .build();
+        when(userStatsRepo.findById(userId)).thenReturn(Optional.of(stats));
+
+        // Act
+        UserStatsDTO result = statsService.getStats(userId);
+
+        // Assert
+        assertEquals(3, result.getPostCount());
+        assertEquals(2, result.getPublishedCount());
+        assertEquals(5, result.getCommentCount());
+        assertEquals(42, result.getTotalViews());
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    void testGetStats_NoActivity_ReturnsZeros() {
+        // Arrange
+        when(userStatsRepo.findById(userId)).thenReturn(Optional.empty());
+        when(userRepo.existsById(userId)).thenReturn(true);
+
+        // Act
+        UserStatsDTO result = statsService.getStats(userId);
+
+        // Assert
+        assertEquals(userId, result.getUserId());
+        assertEquals(0, result.getPostCount());
+        assertEquals(0, result.getCommentCount());
+    }
+
+    @Test
+    void testGetStats_UnknownUser_ThrowsResourceNotFound() {
+        // Arrange
+        when(userStatsRepo.findById(userId)).thenReturn(Optional.empty());
+        when(userRepo.existsById(userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> statsService.getStats(userId));
+    }
+
+    @Test
+    void testRecordPostDeleted_RevertsAllCounters() {
+        // Arrange
+        Post post = new Post();
+        post.setAuthorId(userId);
+        post.setPublished(true);
+        post.setViews(17);
+
+        // Act
+        statsService.recordPostDeleted(post);
+
+        // Assert
+        verify(userStatsRepo).increment(userId, -1, -1, 0, -17);
+    }
+
+    @Test
+    void testRecordCommentsRemoved_OneUpdatePerAuthor() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        List<Comment> comments = List.of(commentBy(userId), commentBy(otherId), commentBy(userId));
+
+        // Act
+        statsService.recordCommentsRemoved(comments);
+
+        // Assert
+        verify(userStatsRepo).increment(userId, 0, 0, -2, 0);
+        verify(userStatsRepo).increment(otherId, 0, 0, -1, 0);
+    }
+
+    @Test
+    void testIncrementFailure_IsSwallowed() {
+        // Arrange
+        doThrow(new RuntimeException("Database error"))
+                .when(userStatsRepo).increment(any(UUID.class), anyLong(), anyLong(), anyLong(), anyLong());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> statsService.recordPostCreated(userId));
+    }
+
+    @Test
+    void testRepair_RecomputesEveryPage() {
+        // Arrange
+        User first = userWithId(UUID.randomUUID());
+        User second = userWithId(UUID.randomUUID());
+        User third = userWithId(UUID.randomUUID());
+        when(userRepo.findPageAfter(null, 2)).thenReturn(List.of(first, second));
+        when(userRepo.findPageAfter(second.getId(), 2)).thenReturn(List.of(third));
+        List<UserStats> firstStats = List.of(UserStats.builder().userId(first.getId()).build());
+        List<UserStats> secondStats = List.of(UserStats.builder().userId(third.getId()).build());
+        when(userStatsRepo.recompute(List.of(first.getId(), second.getId()))).thenReturn(firstStats);
+        when(userStatsRepo.recompute(List.of(third.getId()))).thenReturn(secondStats);
+
+        // Act
+        boolean started = statsService.repair();
+        repairs.forEach(Runnable::run);
+
+        // Assert
+        assertTrue(started);
+        verify(userStatsRepo).replaceAll(firstStats);
+        verify(userStatsRepo).replaceAll(secondStats);
+    }
+
+    @Test
+    void testRepair_AlreadyRunning_NotQueuedTwice() {
+        assertTrue(statsService.repair());
+        assertFalse(statsService.repair());
+
+        assertEquals(1, repairs.size());
+    }
+
+    private static Comment commentBy(UUID authorId) {
+        Comment comment = new Comment();
+        comment.setId(UUID.randomUUID());
+        comment.setAuthorId(authorId);
+        return comment;
+    }
+
+    private static User userWithId(UUID id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.BlogApp.service;
+
+import com.example.BlogApp.config.UserSearchProperties;
+import com.example.BlogApp.model.User;
+import com.example.BlogApp.repo.UserRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UsernamePrefixIndex
+ * Tests loading, case-insensitive prefix lookups and keeping the index in sync
+ */
+@ExtendWith(MockitoExtension.class)
+class UsernamePrefixIndexTest {
+
+    @Mock
+    private UserRepo userRepo;
+
+    private UserSearchProperties properties;
+    private UsernamePrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserSearchProperties();
+        index = new UsernamePrefixIndex(userRepo, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testLoad_SkipsDeletedUsers() {
+        // Arrange
+        User alice = user("alice");
+        User deleted = user("alan");
+        deleted.setDeleted(true);
+        when(userRepo.streamAll()).thenReturn(Stream.of(alice, deleted));
+
+        // Act
+        index.load();
+
+        // Assert
+        assertTrue(index.isReady());
+        assertEquals(List.of(alice.getId()), index.search("al", 10));
+    }
+
+    @Test
+    void testLoad_Disabled_StaysNotReady() {
+        properties.setIndexEnabled(false);
+
+        index.load();
+
+        assertFalse(index.isReady());
+        verifyNoInteractions(userRepo);
+    }
+
+    @Test
+    void testSearch_IgnoresCaseAndKeepsUsernameOrder() {
+        // Arrange
+        UUID bob = UUID.randomUUID();
+        UUID bobby = UUID.randomUUID();
+        UUID alice = UUID.randomUUID();
+        index.put(bobby, "Bobby");
+        index.put(alice, "alice");
+        index.put(bob, "bob");
+
+        // Act & Assert
+        assertEquals(List.of(bob, bobby), index.search("BO", 10));
+        assertEquals(List.of(bob), index.search("bo", 1));
+        assertEquals(List.of(), index.search("c", 10));
+    }
+
+    @Test
+    void testPut_RenameMovesUser() {
+        UUID userId = UUID.randomUUID();
+        index.put(userId, "alice");
+
+        index.put(userId, "zoe");
+
+        assertEquals(List.of(), index.search("alice", 10));
+        assertEquals(List.of(userId), index.search("zo", 10));
+    }
+
+    @Test
+    void testRemove_DropsUser() {
+        UUID userId = UUID.randomUUID();
+        index.put(userId, "alice");
+
+        index.remove(userId);
+
+        assertEquals(List.of(), index.search("a", 10));
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        return user;
+    }
+}
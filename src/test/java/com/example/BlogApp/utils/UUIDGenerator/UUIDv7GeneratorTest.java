@@ -0,0 +1,116 @@
+package com.example.BlogApp.utils.UUIDGenerator;
+
+import com.example.BlogApp.model.Comment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UUIDv7Generator and GenericUUIDCallback
+ * Tests the version 7 layout, monotonic ordering and per-entity id selection
+ */
+class UUIDv7GeneratorTest {
+
+    @Test
+    void testNext_EncodesVersionVariantAndTimestamp() {
+        UUIDv7Generator generator = new UUIDv7Generator(() -> 1_700_000_000_123L);
+
+        UUID uuid = generator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(1_700_000_000_123L, UUIDv7Generator.timestampMillis(uuid));
+    }
+
+    @Test
+    void testNext_SameMillisecond_StrictlyIncreasing() {
+        UUIDv7Generator generator = new UUIDv7Generator(() -> 1_700_000_000_000L);
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "ids must increase at index " + i);
+        }
+    }
+
+    @Test
+    void testNext_ClockStepsBack_StaysMonotonic() {
+        AtomicLong now = new AtomicLong(1_700_000_000_500L);
+        UUIDv7Generator generator = new UUIDv7Generator(now::get);
+
+        UUID before = generator.next();
+        now.set(1_700_000_000_000L);
+        UUID after = generator.next();
+
+        assertTrue(before.compareTo(after) < 0);
+    }
+
+    @Test
+    void testNext_ConcurrentCallers_NoDuplicates() {
+        UUIDv7Generator generator = new UUIDv7Generator(System::currentTimeMillis);
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.next()));
+
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void testTimestampMillis_RandomUuid_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> UUIDv7Generator.timestampMillis(UUID.randomUUID()));
+    }
+
+    @Test
+    void testCallback_TimeOrderedEntity_GetsVersion7() {
+        Comment comment = new Comment();
+
+        new GenericUUIDCallback().onBeforeConvert(comment, "comments");
+
+        assertEquals(7, comment.getId().version());
+    }
+
+    @Test
+    void testCallback_PlainEntity_GetsVersion4() {
+        PlainEntity entity = new PlainEntity();
+
+        new GenericUUIDCallback().onBeforeConvert(entity, "plain");
+
+        assertEquals(4, entity.getId().version());
+    }
+
+    @Test
+    void testCallback_ExistingId_Kept() {
+        UUID id = UUID.randomUUID();
+        Comment comment = new Comment();
+        comment.setId(id);
+
+        new GenericUUIDCallback().onBeforeConvert(comment, "comments");
+
+        assertEquals(id, comment.getId());
+    }
+
+    private static class PlainEntity implements Identifiable {
+        private UUID id;
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public void setId(UUID id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.BlogApp.utils.contentFilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AhoCorasickMatcher
+ * Tests case-insensitive whole-word matching and overlapping terms
+ */
+class AhoCorasickMatcherTest {
+
+    @Test
+    void testFindFirst_MatchesCaseInsensitively() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("Spam", "scam"));
+
+        assertEquals(Optional.of("spam"), matcher.findFirst("Buy SPAM now"));
+        assertEquals(Optional.of("scam"), matcher.findFirst("what a scam!"));
+    }
+
+    @Test
+    void testFindFirst_IgnoresMatchesInsideWords() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("ass"));
+
+        assertFalse(matcher.matches("This class is great"));
+        assertTrue(matcher.matches("what an ass."));
+    }
+
+    @Test
+    void testFindFirst_OverlappingTermsFollowSuffixLinks() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("he", "she", "hers", "his"));
+
+        assertEquals(Optional.of("hers"), matcher.findFirst("ushers hers"));
+        assertEquals(Optional.of("she"), matcher.findFirst("ah she"));
+    }
+
+    @Test
+    void testFindFirst_MultiWordTerm() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("free money"));
+
+        assertTrue(matcher.matches("Click for FREE MONEY today"));
+        assertFalse(matcher.matches("free moneybags"));
+    }
+
+    @Test
+    void testCompile_IgnoresBlankAndDuplicateTerms() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("spam", " SPAM ", "", "  "));
+
+        assertEquals(1, matcher.size());
+    }
+
+    @Test
+    void testFindFirst_EmptyMatcherNeverMatches() {
+        assertFalse(AhoCorasickMatcher.empty().matches("anything at all"));
+        assertFalse(AhoCorasickMatcher.compile(List.of("spam")).matches(null));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.BlogApp.utils.contentFilter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimHash
+ * Tests that small edits keep fingerprints close and unrelated texts far apart
+ */
+class SimHashTest {
+
+    @Test
+    void testFingerprint_IgnoresCaseAndPunctuation() {
+        assertEquals(SimHash.fingerprint("Buy cheap watches now"),
+                SimHash.fingerprint("BUY cheap, watches... now!"));
+    }
+
+    @Test
+    void testFingerprint_SmallEditStaysClose() {
+        long original = SimHash.fingerprint("Visit my profile for the best deals on designer handbags this week");
+        long edited = SimHash.fingerprint("Visit my profile for the best deals on designer handbags this weekend");
+
+        assertTrue(SimHash.distance(original, edited) <= 7);
+    }
+
+    @Test
+    void testFingerprint_UnrelatedTextsAreFarApart() {
+        long first = SimHash.fingerprint("Visit my profile for the best deals on designer handbags this week");
+        long second = SimHash.fingerprint("The garbage collector pauses dropped after switching to generational ZGC");
+
+        assertTrue(SimHash.distance(first, second) > 10);
+    }
+
+    @Test
+    void testFingerprint_EmptyText() {
+        assertEquals(0L, SimHash.fingerprint(""));
+        assertEquals(0L, SimHash.fingerprint(null));
+    }
+}